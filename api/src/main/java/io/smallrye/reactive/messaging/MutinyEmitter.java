@@ -87,6 +87,26 @@ public interface MutinyEmitter<T> extends EmitterType {
      */
     Cancellable sendAndForget(T payload);
 
+    /**
+     * Sends a batch of payloads to the channel without waiting for acknowledgement.
+     * <p>
+     * A {@link Message} object will be created to hold each payload. The payloads are emitted in iteration order.
+     * If the emission of one payload fails, the remaining payloads are not sent.
+     *
+     * @param payloads the <em>things</em> to send, must not be {@code null}, must not contain {@code null}
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default void sendAllAndForget(Iterable<? extends T> payloads) {
+        if (payloads == null) {
+            throw new IllegalArgumentException("`payloads` must not be `null`");
+        }
+        for (T payload : payloads) {
+            sendAndForget(payload);
+        }
+    }
+
     /**
      * Sends a message to the channel.
      *
@@ -1,7 +1,16 @@
 package io.smallrye.reactive.messaging.json;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface to abstract json serialization to/from string.
+ * <p>
+ * The byte and stream variants default to the string ones, using UTF-8. Implementations are expected to override them
+ * to avoid the intermediate {@code String}.
  */
 public interface JsonMapping {
 
@@ -20,6 +29,31 @@ public interface JsonMapping {
      */
     String toJson(Object object);
 
+    /**
+     * Serialize an object to UTF-8 encoded JSON.
+     *
+     * @param object object to serialize
+     * @return JSON representation of the object, encoded in UTF-8
+     */
+    default byte[] toJsonBytes(Object object) {
+        return toJson(object).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serialize an object to UTF-8 encoded JSON, written to the given stream.
+     * The caller owns the stream, but implementations may close it once the object is written.
+     *
+     * @param object object to serialize
+     * @param out the stream to write to
+     */
+    default void toJson(Object object, OutputStream out) {
+        try {
+            out.write(toJsonBytes(object));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Deserialize an object from it's JSON string representation.
      *
@@ -29,4 +63,33 @@ public interface JsonMapping {
      * @return object of requested class
      */
     <T> T fromJson(String str, Class<T> type);
+
+    /**
+     * Deserialize an object from it's UTF-8 encoded JSON representation.
+     *
+     * @param bytes UTF-8 encoded JSON
+     * @param type type of object
+     * @param <T> generic parametrization class
+     * @return object of requested class
+     */
+    default <T> T fromJson(byte[] bytes, Class<T> type) {
+        return fromJson(new String(bytes, StandardCharsets.UTF_8), type);
+    }
+
+    /**
+     * Deserialize an object from a stream of UTF-8 encoded JSON.
+     * The caller owns the stream, but implementations may close it once the object is read.
+     *
+     * @param in the stream to read from
+     * @param type type of object
+     * @param <T> generic parametrization class
+     * @return object of requested class
+     */
+    default <T> T fromJson(InputStream in, Class<T> type) {
+        try {
+            return fromJson(in.readAllBytes(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -37,7 +37,8 @@ public interface MessageObservationCollector<T extends ObservationContext> {
      * @param channel the channel of the message
      * @param message the message
      * @param observationContext the observation context
-     * @return the message observation
+     * @return the message observation, if {@code null} the message is not observed and no observation metadata is
+     *         added to it
      */
     MessageObservation onNewMessage(String channel, Message<?> message, T observationContext);
 
@@ -77,6 +77,44 @@ public interface Emitter<T> {
      */
     <M extends Message<? extends T>> void send(M msg);
 
+    /**
+     * Sends a payload to the channel without observing the acknowledgement.
+     * <p>
+     * A {@link Message} object will be created to hold the payload. Unlike {@link #send(Object)}, no
+     * {@code CompletionStage} is created to track the acknowledgement, which makes this method suitable for
+     * high-throughput emission. Negative-acknowledgements are logged.
+     *
+     * @param payload the <em>thing</em> to send, must not be {@code null}
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    @Experimental("fire-and-forget emission is a SmallRye-specific feature")
+    default void sendAndForget(T payload) {
+        send(payload);
+    }
+
+    /**
+     * Sends a batch of payloads to the channel without observing their acknowledgement.
+     * <p>
+     * A {@link Message} object will be created to hold each payload. The payloads are emitted in iteration order.
+     * If the emission of one payload fails, the remaining payloads are not sent.
+     *
+     * @param payloads the <em>things</em> to send, must not be {@code null}, must not contain {@code null}
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    @Experimental("batch emission is a SmallRye-specific feature")
+    default void sendAll(Iterable<? extends T> payloads) {
+        if (payloads == null) {
+            throw new IllegalArgumentException("`payloads` must not be `null`");
+        }
+        for (T payload : payloads) {
+            sendAndForget(payload);
+        }
+    }
+
     /**
      * Sends the completion event to the channel indicating that no other events will be sent afterward.
      */
@@ -90,6 +90,32 @@ public @interface OnOverflow {
          */
         LATEST,
 
+        /**
+         * Buffers values until the downstream consumes them, in a buffer with the size specified by {@link #bufferSize()}
+         * if present, or the value of the config property <strong>mp.messaging.emitter.default-buffer-size</strong>.
+         * <p>
+         * If the buffer is full, the oldest buffered value is dropped (and its message nacked) to make room for the new
+         * value.
+         * <p>
+         * <strong>IMPORTANT:</strong> SmallRye-specific strategy.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Buffers values until the downstream consumes them, in a buffer with the size specified by {@link #bufferSize()}
+         * if present, or the value of the config property <strong>mp.messaging.emitter.default-buffer-size</strong>.
+         * <p>
+         * If the buffer is full, the {@code Emitter.send} method blocks the caller until the downstream consumes values.
+         * If the buffer is still full after the duration configured with the
+         * <strong>mp.messaging.emitter.default-block-timeout</strong> config property (in milliseconds, 10 seconds by
+         * default), an {@link IllegalStateException} is thrown. The caller is never blocked when running on an event
+         * loop thread, the exception is thrown immediately. This strategy is meant to be used from worker or virtual
+         * threads.
+         * <p>
+         * <strong>IMPORTANT:</strong> SmallRye-specific strategy.
+         */
+        BLOCK,
+
         /**
          * The values are propagated without any back pressure strategy. It's the responsibility from the downstream to
          * implement a strategy to deal with overflow.
@@ -8,6 +8,7 @@ import static io.smallrye.reactive.messaging.annotations.ConnectorAttribute.Dire
 import static java.time.Duration.ofSeconds;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -58,6 +59,7 @@ import io.vertx.amqp.AmqpReceiverOptions;
 import io.vertx.amqp.AmqpSenderOptions;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mutiny.amqp.AmqpClient;
+import io.vertx.mutiny.amqp.AmqpConnection;
 import io.vertx.mutiny.amqp.AmqpReceiver;
 import io.vertx.mutiny.amqp.AmqpSender;
 import io.vertx.mutiny.core.Context;
@@ -91,6 +93,10 @@ import io.vertx.proton.ProtonSender;
 @ConnectorAttribute(name = "durable", direction = INCOMING, description = "Whether AMQP subscription is durable", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "auto-acknowledgement", direction = INCOMING, description = "Whether the received AMQP messages must be acknowledged when received", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "failure-strategy", type = "string", direction = INCOMING, description = "Specify the failure strategy to apply when a message produced from an AMQP message is nacked. Accepted values are `fail` (default), `accept`, `release`, `reject`, `modified-failed`, `modified-failed-undeliverable-here`", defaultValue = "fail")
+@ConnectorAttribute(name = "prefetch", direction = INCOMING, description = "The number of link credits granted to the broker, i.e. the maximum number of messages delivered but not consumed yet. When set, credits are replenished in batches once the credits and buffered messages go below `prefetch-low-water-mark`. When not set, the receiver grants 1000 credits, and one credit per consumed message", type = "int")
+@ConnectorAttribute(name = "prefetch-low-water-mark", direction = INCOMING, description = "The number of credits and buffered messages under which credits are replenished up to `prefetch`. Requires `prefetch` to be set. Defaults to half of `prefetch`", type = "int")
+@ConnectorAttribute(name = "prefetch-max", direction = INCOMING, description = "Enables the adaptive sizing of the prefetch window, between `prefetch` and this value. The window grows when the application waits for messages, and shrinks when messages wait for the application. Requires `prefetch` to be set", type = "int")
+@ConnectorAttribute(name = "links", direction = INCOMING, description = "The number of links receiving the messages of the channel. Each link uses its own connection, bound to its own event loop, so the AMQP frames are decoded on multiple cores. The messages are dispatched in order per link, but not across links", type = "int", defaultValue = "1")
 @ConnectorAttribute(name = "selector", direction = INCOMING, description = "Sets a message selector. This attribute is used to define an `apache.org:selector-filter:string` filter on the source terminus, using SQL-based syntax to request the server filters which messages are delivered to the receiver (if supported by the server in question). Precise functionality supported and syntax needed can vary depending on the server.", type = "string")
 
 @ConnectorAttribute(name = "durable", direction = OUTGOING, description = "Whether sent AMQP messages are marked durable", type = "boolean", defaultValue = "false")
@@ -146,7 +152,7 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
      * Tracks the consumer connection holder.
      * This map is used for cleanup and health checks.
      */
-    private final Map<String, ConnectionHolder> holders = new ConcurrentHashMap<>();
+    private final Map<String, List<ConnectionHolder>> holders = new ConcurrentHashMap<>();
 
     private volatile AmqpOpenTelemetryInstrumenter amqpInstrumenter;
 
@@ -165,7 +171,8 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
             String channel,
             AmqpFailureHandler onNack,
             boolean cloudEventEnabled,
-            Boolean tracingEnabled) {
+            Boolean tracingEnabled,
+            AmqpConnectorIncomingConfiguration ic) {
         log.receiverListeningAddress(address);
 
         // The processor is used to inject AMQP Connection failure in the stream and trigger a retry.
@@ -178,7 +185,17 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
 
         return Multi.createFrom().deferred(
                 () -> {
-                    Multi<Message<?>> stream = receiver.toMulti()
+                    Multi<io.vertx.mutiny.amqp.AmqpMessage> source;
+                    if (ic.getPrefetch().isPresent()) {
+                        int prefetch = ic.getPrefetch().get();
+                        source = Multi.createFrom().publisher(new AmqpCreditBasedReceiver(receiver, channel,
+                                ic.getAutoAcknowledgement(), prefetch,
+                                ic.getPrefetchLowWaterMark().orElse(prefetch / 2),
+                                ic.getPrefetchMax().orElse(prefetch)));
+                    } else {
+                        source = receiver.toMulti();
+                    }
+                    Multi<Message<?>> stream = source
                             .emitOn(c -> VertxContext.runOnContext(holder.getContext().getDelegate(), c))
                             .onItem().transformToUniAndConcatenate(m -> {
                                 try {
@@ -200,6 +217,7 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Flow.Publisher<? extends Message<?>> getPublisher(Config config) {
         AmqpConnectorIncomingConfiguration ic = new AmqpConnectorIncomingConfiguration(config);
         String address = ic.getAddress().orElseGet(ic::getChannel);
@@ -218,37 +236,62 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
                 .setCapabilities(getClientCapabilities(ic))
                 .setSelector(ic.getSelector().orElse(null));
 
-        AmqpClient client = AmqpClientHelper.createClient(this, ic, clientOptions, clientSslContexts);
-
-        Context root = null;
-        if (ConcurrencyConnectorConfig.getConcurrency(config).filter(i -> i > 1).isPresent()) {
-            root = Context.newInstance(((VertxInternal) getVertx().getDelegate()).createEventLoopContext());
+        int links = ic.getLinks();
+        if (links <= 0) {
+            throw ex.illegalArgumentInvalidLinks(links);
         }
-        ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx(), root);
-        holders.put(ic.getChannel(), holder);
 
+        AmqpClient client = AmqpClientHelper.createClient(this, ic, clientOptions, clientSslContexts);
         AmqpFailureHandler onNack = createFailureHandler(ic);
 
         if (tracing && amqpInstrumenter == null) {
             amqpInstrumenter = AmqpOpenTelemetryInstrumenter.createForConnector();
         }
 
-        Multi<? extends Message<?>> multi = holder.getOrEstablishConnection()
-                .onItem().transformToUni(connection -> connection.createReceiver(address, options))
-                .onItem().invoke(r -> opened.put(channel, true))
-                .onItem().transformToMulti(r -> getStreamOfMessages(r, holder, address, channel, onNack,
-                        cloudEvents, tracing));
-
-        Integer interval = ic.getReconnectInterval();
-        Integer attempts = ic.getReconnectAttempts();
-        multi = multi
-                // Retry on failure.
-                .onFailure().invoke(log::retrieveMessagesRetrying)
-                .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(interval)).atMost(attempts)
-                .onFailure().invoke(t -> {
-                    opened.put(channel, false);
-                    log.retrieveMessagesNoMoreRetrying(t);
-                });
+        boolean concurrency = ConcurrencyConnectorConfig.getConcurrency(config).filter(i -> i > 1).isPresent();
+        List<ConnectionHolder> channelHolders = new CopyOnWriteArrayList<>();
+        holders.put(channel, channelHolders);
+        List<Multi<Message<?>>> streams = new ArrayList<>(links);
+        for (int i = 0; i < links; i++) {
+            Context root = null;
+            if (concurrency || links > 1) {
+                root = Context.newInstance(((VertxInternal) getVertx().getDelegate()).createEventLoopContext());
+            }
+            ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx(), root);
+            channelHolders.add(holder);
+
+            Uni<AmqpConnection> connection = holder.getOrEstablishConnection();
+            if (links > 1) {
+                // Connect from the context of the link, so the connection is bound to its event loop
+                Context context = root;
+                connection = connection.runSubscriptionOn(context::runOnContext);
+            }
+
+            Multi<? extends Message<?>> stream = connection
+                    .onItem().transformToUni(c -> c.createReceiver(address, options))
+                    .onItem().invoke(r -> opened.put(channel, true))
+                    .onItem().transformToMulti(r -> getStreamOfMessages(r, holder, address, channel, onNack,
+                            cloudEvents, tracing, ic));
+
+            Integer interval = ic.getReconnectInterval();
+            Integer attempts = ic.getReconnectAttempts();
+            streams.add((Multi<Message<?>>) stream
+                    // Retry on failure.
+                    .onFailure().invoke(log::retrieveMessagesRetrying)
+                    .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(interval)).atMost(attempts)
+                    .onFailure().invoke(t -> {
+                        opened.put(channel, false);
+                        log.retrieveMessagesNoMoreRetrying(t);
+                    }));
+        }
+
+        Multi<? extends Message<?>> multi;
+        if (links == 1) {
+            multi = streams.get(0);
+        } else {
+            // Each link emits its messages in order
+            multi = Multi.createBy().merging().streams(streams);
+        }
 
         if (broadcast) {
             multi = multi.broadcast().toAllSubscribers();
@@ -397,12 +440,14 @@ public class AmqpConnector implements InboundConnector, OutboundConnector, Healt
     @Override
     public HealthReport getReadiness() {
         HealthReport.HealthReportBuilder builder = HealthReport.builder();
-        for (Map.Entry<String, ConnectionHolder> holder : holders.entrySet()) {
-            try {
-                builder.add(holder.getKey(), holder.getValue().isConnected().await()
-                        .atMost(Duration.ofSeconds(holder.getValue().getHealthTimeout())));
-            } catch (Exception e) {
-                builder.add(holder.getKey(), false, e.getMessage());
+        for (Map.Entry<String, List<ConnectionHolder>> entry : holders.entrySet()) {
+            for (ConnectionHolder holder : entry.getValue()) {
+                try {
+                    builder.add(entry.getKey(), holder.isConnected().await()
+                            .atMost(Duration.ofSeconds(holder.getHealthTimeout())));
+                } catch (Exception e) {
+                    builder.add(entry.getKey(), false, e.getMessage());
+                }
             }
         }
 
@@ -0,0 +1,207 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static io.smallrye.reactive.messaging.amqp.i18n.AMQPExceptions.ex;
+import static io.smallrye.reactive.messaging.amqp.i18n.AMQPLogging.log;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.vertx.amqp.impl.AmqpConnectionImpl;
+import io.vertx.amqp.impl.AmqpMessageImpl;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.amqp.AmqpReceiver;
+import io.vertx.proton.ProtonDelivery;
+import io.vertx.proton.ProtonReceiver;
+import io.vertx.proton.impl.ProtonConnectionImpl;
+
+/**
+ * Publishes the messages received by an AMQP receiver, managing the link credits explicitly.
+ * <p>
+ * The number of credits granted to the broker plus the number of messages buffered locally never exceeds the
+ * prefetch window. Credits are replenished in a single flow frame when this number goes below the low-water mark, so
+ * the broker does not receive a flow frame for every message consumed by the downstream. The low-water mark is scaled
+ * with the window.
+ * <p>
+ * When a maximum window is configured, the window is resized on every replenishment: it doubles (up to the maximum)
+ * when the downstream is waiting for messages, as the broker round-trip is the bottleneck, and halves (down to the
+ * prefetch) when no downstream demand is pending, as the processing is the bottleneck.
+ * <p>
+ * All the state is accessed from the context of the AMQP connection.
+ */
+public class AmqpCreditBasedReceiver implements Publisher<io.vertx.mutiny.amqp.AmqpMessage>, Subscription {
+
+    private final AmqpReceiver receiver;
+    private final ProtonReceiver link;
+    private final AmqpConnectionImpl connection;
+    private final Context context;
+    private final String channel;
+    private final boolean autoAck;
+    private final int prefetch;
+    private final int lowWaterMark;
+    private final int maxWindow;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final Queue<AmqpMessageImpl> buffered = new ArrayDeque<>();
+    private Subscriber<? super io.vertx.mutiny.amqp.AmqpMessage> downstream;
+    private long demand;
+    private int credits;
+    private int window;
+    private boolean started;
+    private boolean draining;
+    private boolean done;
+
+    /**
+     * Constructor.
+     *
+     * @param receiver the AMQP receiver, its link must not have been given credits yet
+     * @param channel the channel name
+     * @param autoAck whether the messages are accepted when emitted
+     * @param prefetch the prefetch window, i.e. the initial number of credits
+     * @param lowWaterMark the number of credits and buffered messages under which credits are replenished
+     * @param maxWindow the maximum size of the window, when adaptive sizing is enabled, {@code prefetch} otherwise
+     */
+    public AmqpCreditBasedReceiver(AmqpReceiver receiver, String channel, boolean autoAck, int prefetch,
+            int lowWaterMark, int maxWindow) {
+        if (prefetch <= 0 || lowWaterMark < 0 || lowWaterMark >= prefetch || maxWindow < prefetch) {
+            throw ex.illegalArgumentInvalidPrefetch(prefetch, lowWaterMark, maxWindow);
+        }
+        this.receiver = receiver;
+        this.link = receiver.getDelegate().unwrap();
+        this.connection = (AmqpConnectionImpl) receiver.connection().getDelegate();
+        this.context = ((ProtonConnectionImpl) connection.unwrap()).getContext();
+        this.channel = channel;
+        this.autoAck = autoAck;
+        this.prefetch = prefetch;
+        this.lowWaterMark = lowWaterMark;
+        this.maxWindow = maxWindow;
+        this.window = prefetch;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super io.vertx.mutiny.amqp.AmqpMessage> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            Subscriptions.fail(subscriber, ex.illegalStateOnlyOneSubscriberAllowed());
+            return;
+        }
+        runOnContext(() -> {
+            downstream = subscriber;
+            // Replace the handler of the Vert.x receiver, which grants one credit per delivered message
+            link.handler(this::onDelivery);
+            receiver.endHandler(this::onEnd);
+            subscriber.onSubscribe(this);
+        });
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            downstream.onError(Subscriptions.getInvalidRequestException());
+            return;
+        }
+        runOnContext(() -> {
+            demand = Subscriptions.add(demand, n);
+            drain();
+        });
+    }
+
+    @Override
+    public void cancel() {
+        runOnContext(() -> {
+            if (done) {
+                return;
+            }
+            done = true;
+            // Let the broker redeliver the messages which have not been emitted
+            AmqpMessageImpl message;
+            while ((message = buffered.poll()) != null) {
+                message.released();
+            }
+        });
+    }
+
+    private void runOnContext(Runnable runnable) {
+        if (Vertx.currentContext() == context) {
+            runnable.run();
+        } else {
+            context.runOnContext(x -> runnable.run());
+        }
+    }
+
+    private void onDelivery(ProtonDelivery delivery, org.apache.qpid.proton.message.Message message) {
+        if (credits > 0) {
+            credits--;
+        }
+        buffered.add(new AmqpMessageImpl(message, delivery, connection));
+        drain();
+    }
+
+    private void onEnd() {
+        if (!done) {
+            done = true;
+            buffered.clear();
+            downstream.onComplete();
+        }
+    }
+
+    private void drain() {
+        if (draining) {
+            // Re-entrant call from the downstream, the loop below picks up the new demand
+            return;
+        }
+        draining = true;
+        try {
+            AmqpMessageImpl message;
+            while (!done && demand > 0 && (message = buffered.poll()) != null) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                downstream.onNext(new io.vertx.mutiny.amqp.AmqpMessage(message));
+                if (autoAck) {
+                    message.accepted();
+                }
+            }
+        } finally {
+            draining = false;
+        }
+        replenish();
+    }
+
+    private void replenish() {
+        if (done) {
+            return;
+        }
+        int available = credits + buffered.size();
+        if (available > (long) lowWaterMark * window / prefetch) {
+            return;
+        }
+        if (started) {
+            resize();
+        } else {
+            started = true;
+        }
+        int granted = window - available;
+        if (granted > 0) {
+            credits += granted;
+            log.grantingCredits(granted, channel, window);
+            link.flow(granted);
+        }
+    }
+
+    private void resize() {
+        if (maxWindow == prefetch) {
+            return;
+        }
+        if (demand > 0 && buffered.isEmpty()) {
+            window = (int) Math.min((long) window * 2, maxWindow);
+        } else if (demand == 0) {
+            window = Math.max(window / 2, prefetch);
+        }
+    }
+}
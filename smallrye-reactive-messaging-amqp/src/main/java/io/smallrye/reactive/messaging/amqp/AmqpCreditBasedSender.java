@@ -4,6 +4,8 @@ import static io.smallrye.reactive.messaging.amqp.i18n.AMQPExceptions.ex;
 import static io.smallrye.reactive.messaging.amqp.i18n.AMQPLogging.log;
 import static java.time.Duration.ofSeconds;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Processor;
@@ -23,7 +25,10 @@ import io.smallrye.reactive.messaging.amqp.ce.AmqpCloudEventHelper;
 import io.smallrye.reactive.messaging.amqp.tracing.AmqpOpenTelemetryInstrumenter;
 import io.smallrye.reactive.messaging.ce.OutgoingCloudEventMetadata;
 import io.vertx.amqp.impl.AmqpMessageImpl;
+import io.vertx.core.Vertx;
 import io.vertx.mutiny.amqp.AmqpSender;
+import io.vertx.mutiny.core.Context;
+import io.vertx.proton.ProtonSender;
 
 public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>, Subscription {
 
@@ -50,6 +55,18 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
 
     private volatile boolean isAnonymous;
 
+    /**
+     * The sender resolved by {@code retrieveSender}, used to write the messages directly on the connection context
+     * while its link is open.
+     */
+    private volatile AmqpSender sender;
+
+    /**
+     * The messages sent with the cached sender and accepted by the broker, acknowledged and emitted downstream in
+     * batch.
+     */
+    private final List<Message<?>> accepted = new ArrayList<>();
+
     /**
      * A flag tracking if we are retrieving the credits for the sender.
      * It avoids flooding the broker with credit requests.
@@ -96,6 +113,7 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
     private Uni<AmqpSender> getSenderAndCredits() {
         return retrieveSender
                 .onItem().call(sender -> {
+                    this.sender = sender;
                     isAnonymous = configuration.getUseAnonymousSender()
                             .orElseGet(() -> ConnectionHolder.supportAnonymousRelay(sender.connection()));
                     CompletableFuture<Void> future = new CompletableFuture<>();
@@ -170,6 +188,114 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
             return;
         }
 
+        AmqpSender current = this.sender;
+        Context context = holder.getContext();
+        if (current == null || context == null) {
+            sendAndRetrieveSender(message);
+            return;
+        }
+
+        if (Vertx.currentContext() == context.getDelegate()) {
+            sendWithCachedSender(current, message);
+        } else {
+            context.runOnContext(() -> sendWithCachedSender(current, message));
+        }
+    }
+
+    /**
+     * Sends the message with the cached sender, without assembling a pipeline per message.
+     * Must be called on the context having created the AMQP connection.
+     * If the link of the sender is not open anymore, or if the broker does not accept the message, the message is
+     * sent with {@link #sendAndRetrieveSender(Message)}, which retrieves a new sender and retries.
+     *
+     * @param current the cached sender
+     * @param message the message
+     */
+    private void sendWithCachedSender(AmqpSender current, Message<?> message) {
+        if (!isUsable(current)) {
+            if (this.sender == current) {
+                this.sender = null;
+            }
+            sendAndRetrieveSender(message);
+            return;
+        }
+
+        io.vertx.mutiny.amqp.AmqpMessage amqp;
+        try {
+            amqp = toAmqpMessage(message, durable, ttl, configuredAddress, isAnonymous);
+        } catch (Exception e) {
+            // Message can be sent - nacking and skipping.
+            message.nack(e);
+            log.serializationFailure(configuration.getChannel(), e);
+            return;
+        }
+
+        if (amqp == null) {
+            // The client is closed
+            sendAndRetrieveSender(message);
+            return;
+        }
+        current.getDelegate().sendWithAck(amqp.getDelegate(), ar -> {
+            if (ar.succeeded()) {
+                onAccepted(current, message);
+            } else {
+                sendAndRetrieveSender(message);
+            }
+        });
+    }
+
+    private static boolean isUsable(AmqpSender sender) {
+        if (sender.connection().isDisconnected()) {
+            return false;
+        }
+        ProtonSender link = sender.getDelegate().unwrap();
+        return link != null && link.isOpen();
+    }
+
+    /**
+     * Records a message accepted by the broker. The messages accepted during the same event loop iteration, generally
+     * because the broker settled them with the same disposition frame, are acknowledged and emitted together.
+     *
+     * @param current the sender
+     * @param message the message
+     */
+    private void onAccepted(AmqpSender current, Message<?> message) {
+        boolean schedule;
+        synchronized (accepted) {
+            accepted.add(message);
+            schedule = accepted.size() == 1;
+        }
+        if (schedule) {
+            holder.getContext().runOnContext(() -> completeAccepted(current));
+        }
+    }
+
+    private void completeAccepted(AmqpSender current) {
+        List<Message<?>> batch;
+        synchronized (accepted) {
+            batch = new ArrayList<>(accepted);
+            accepted.clear();
+        }
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < acks.length; i++) {
+            acks[i] = batch.get(i).ack().toCompletableFuture();
+        }
+        Subscriber<? super Message<?>> subscriber = this.downstream.get();
+        CompletableFuture.allOf(acks).whenComplete((x, failure) -> {
+            if (failure != null) {
+                subscriber.onError(failure);
+                return;
+            }
+            for (Message<?> message : batch) {
+                subscriber.onNext(message);
+            }
+            if (requested.addAndGet(-batch.size()) <= 0) { // no more credit, request more
+                onNoMoreCredit(current);
+            }
+        });
+    }
+
+    private void sendAndRetrieveSender(Message<?> message) {
         Subscriber<? super Message<?>> subscriber = this.downstream.get();
 
         retrieveSender
@@ -187,8 +313,9 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
                 .subscribe().with(
                         tuple -> {
                             if (tuple != null) { // Serialization issue
+                                this.sender = tuple.getItem1();
                                 subscriber.onNext(tuple.getItem2());
-                                if (requested.decrementAndGet() == 0) { // no more credit, request more
+                                if (requested.decrementAndGet() <= 0) { // no more credit, request more
                                     onNoMoreCredit(tuple.getItem1());
                                 }
                             }
@@ -267,6 +394,30 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
 
     private Uni<Message<?>> send(AmqpSender sender, Message<?> msg, boolean durable, long ttl, String configuredAddress,
             boolean isAnonymousSender) {
+        io.vertx.mutiny.amqp.AmqpMessage amqp = toAmqpMessage(msg, durable, ttl, configuredAddress, isAnonymousSender);
+        if (amqp == null) {
+            return Uni.createFrom().item(msg);
+        }
+
+        return sender.sendWithAck(amqp)
+                .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(retryInterval)).atMost(retryAttempts)
+                .onItemOrFailure().transformToUni((success, failure) -> {
+                    if (failure != null) {
+                        return Uni.createFrom().completionStage(msg.nack(failure));
+                    } else {
+                        return Uni.createFrom().completionStage(msg.ack());
+                    }
+                })
+                .onItem().transform(x -> msg);
+    }
+
+    /**
+     * Converts the message to an AMQP message, ready to be sent.
+     *
+     * @return the AMQP message, {@code null} if the message must not be sent because the client is closed
+     */
+    private io.vertx.mutiny.amqp.AmqpMessage toAmqpMessage(Message<?> msg, boolean durable, long ttl,
+            String configuredAddress, boolean isAnonymousSender) {
         io.vertx.mutiny.amqp.AmqpMessage amqp;
         OutgoingCloudEventMetadata<?> ceMetadata = msg.getMetadata(OutgoingCloudEventMetadata.class)
                 .orElse(null);
@@ -300,7 +451,7 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
         String actualAddress = getActualAddress(msg, amqp, configuredAddress, isAnonymousSender);
         if (connector.getClients().isEmpty()) {
             log.messageNoSend(actualAddress);
-            return Uni.createFrom().item(msg);
+            return null;
         }
 
         if (!actualAddress.equals(amqp.address())) {
@@ -312,16 +463,7 @@ public class AmqpCreditBasedSender implements Processor<Message<?>, Message<?>>,
         }
 
         log.sendingMessageToAddress(actualAddress);
-        return sender.sendWithAck(amqp)
-                .onFailure().retry().withBackOff(ofSeconds(1), ofSeconds(retryInterval)).atMost(retryAttempts)
-                .onItemOrFailure().transformToUni((success, failure) -> {
-                    if (failure != null) {
-                        return Uni.createFrom().completionStage(msg.nack(failure));
-                    } else {
-                        return Uni.createFrom().completionStage(msg.ack());
-                    }
-                })
-                .onItem().transform(x -> msg);
+        return amqp;
     }
 
     private String getActualAddress(Message<?> message, io.vertx.mutiny.amqp.AmqpMessage amqp, String configuredAddress,
@@ -32,4 +32,10 @@ public interface AMQPExceptions {
     @Message(id = 16005, value = "Only one subscriber allowed")
     IllegalStateException illegalStateOnlyOneSubscriberAllowed();
 
+    @Message(id = 16006, value = "Invalid prefetch configuration, `prefetch` (%d) must be strictly positive, `prefetch-low-water-mark` (%d) must be positive and lower than `prefetch`, and `prefetch-max` (%d) must not be lower than `prefetch`")
+    IllegalArgumentException illegalArgumentInvalidPrefetch(int prefetch, int lowWaterMark, int max);
+
+    @Message(id = 16007, value = "Invalid number of links: %d, must be strictly positive")
+    IllegalArgumentException illegalArgumentInvalidLinks(int links);
+
 }
@@ -135,4 +135,8 @@ public interface AMQPLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.ERROR)
     @Message(id = 16229, value = "Unable to deserialize AMQP message on channel `%s`, message ignored")
     void unableToCreateMessage(String channel, @Cause Exception e);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 16230, value = "Granting %d credits to the receiver of channel `%s`, window is %d")
+    void grantingCredits(int credits, String channel, int window);
 }
@@ -1,12 +1,15 @@
 package io.smallrye.reactive.messaging.amqp;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +66,32 @@ public class AmqpCreditTest extends AmqpTestBase {
         assertThat(payloadsReceived).containsAll(expectedPayloads);
     }
 
+    @Test
+    @Timeout(30)
+    public void testMessagesAreAcknowledgedInOrder() throws Exception {
+        int msgCount = 1000;
+        CountDownLatch msgsReceived = new CountDownLatch(msgCount);
+        List<Object> payloadsReceived = new CopyOnWriteArrayList<>();
+        List<Integer> acked = new CopyOnWriteArrayList<>();
+
+        server = setupMockServer(msgCount, msgsReceived, payloadsReceived, executionHolder.vertx().getDelegate());
+
+        Flow.Subscriber<? extends Message<?>> sink = createProviderAndSink(UUID.randomUUID().toString(),
+                server.actualPort());
+        //noinspection unchecked
+        Multi.createFrom().range(0, msgCount)
+                .map(i -> Message.of(i, () -> {
+                    acked.add(i);
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe((Flow.Subscriber<? super Message<Integer>>) sink);
+
+        assertThat(msgsReceived.await(20, TimeUnit.SECONDS)).isTrue();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> acked.size() == msgCount);
+        assertThat(acked).isEqualTo(IntStream.range(0, msgCount).boxed().collect(Collectors.toList()));
+        assertThat(payloadsReceived).isEqualTo(IntStream.range(0, msgCount).boxed().collect(Collectors.toList()));
+    }
+
     private Flow.Subscriber<? extends Message<?>> createProviderAndSink(String topic, int port) {
         Map<String, Object> config = new HashMap<>();
         config.put(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, topic);
@@ -6,13 +6,16 @@ import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.C
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.qpid.proton.Proton;
 import org.apache.qpid.proton.amqp.Binary;
@@ -213,6 +216,151 @@ public class AmqpSourceTest extends AmqpTestBase {
         assertThat(count.get()).isEqualTo(msgCount);
     }
 
+    @Test
+    @Timeout(30)
+    public void testSourceWithPrefetch() throws Exception {
+        int msgCount = 100;
+        List<DispositionRecord> dispositionsReceived = Collections.synchronizedList(new ArrayList<>(msgCount));
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger maxCredits = new AtomicInteger();
+
+        server = setupMockServerTrackingCredits(msgCount, dispositionsReceived, sent, maxCredits,
+                executionHolder.vertx().getDelegate());
+
+        Map<String, Object> config = getConfig(UUID.randomUUID().toString(), server.actualPort());
+        config.put("prefetch", 10);
+        config.put("prefetch-low-water-mark", 2);
+
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        Flow.Publisher<? extends Message<?>> publisher = provider.getPublisher(new MapBasedConfig(config));
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        publisher.subscribe(createSubscriber(messages, new AtomicBoolean()));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() >= msgCount);
+        assertThat(messages.stream()
+                .peek(m -> m.ack().toCompletableFuture().join())
+                .map(Message::getPayload)
+                .collect(Collectors.toList()))
+                .isEqualTo(IntStream.rangeClosed(1, msgCount).boxed().collect(Collectors.toList()));
+        assertThat(maxCredits.get()).isLessThanOrEqualTo(10);
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> dispositionsReceived.size() >= msgCount);
+        assertThat(dispositionsReceived).allSatisfy(record -> assertThat(record.getState()).isInstanceOf(Accepted.class));
+    }
+
+    @Test
+    @Timeout(30)
+    public void testSourceWithPrefetchBoundsUnconsumedMessages() throws Exception {
+        int msgCount = 2000;
+        List<DispositionRecord> dispositionsReceived = Collections.synchronizedList(new ArrayList<>(msgCount));
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger maxCredits = new AtomicInteger();
+
+        server = setupMockServerTrackingCredits(msgCount, dispositionsReceived, sent, maxCredits,
+                executionHolder.vertx().getDelegate());
+
+        Map<String, Object> config = getConfig(UUID.randomUUID().toString(), server.actualPort());
+        config.put("prefetch", 20);
+        config.put("prefetch-max", 80);
+
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        Flow.Publisher<? extends Message<?>> publisher = provider.getPublisher(new MapBasedConfig(config));
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        //noinspection ReactiveStreamsSubscriberImplementation
+        publisher.subscribe(new Subscriber<Message<?>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                s.request(5);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public void onNext(Message<?> message) {
+                messages.add((Message<Integer>) message);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Do nothing.
+            }
+
+            @Override
+            public void onComplete() {
+                // Do nothing.
+            }
+        });
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 5);
+        await().pollDelay(500, TimeUnit.MILLISECONDS).until(() -> true);
+        // The messages not requested by the application are only buffered up to the window
+        assertThat(sent.get()).isLessThan(500);
+        assertThat(maxCredits.get()).isLessThanOrEqualTo(80);
+
+        subscription.get().request(Long.MAX_VALUE);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> messages.size() == msgCount);
+        assertThat(messages).extracting(Message::getPayload)
+                .isEqualTo(IntStream.rangeClosed(1, msgCount).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @Timeout(30)
+    public void testSourceWithMultipleLinks() throws Exception {
+        int msgCountPerLink = 50;
+        AtomicInteger connections = new AtomicInteger();
+        server = new MockServer(executionHolder.vertx().getDelegate(), serverConnection -> {
+            int link = connections.incrementAndGet();
+            serverConnection.openHandler(serverSender -> {
+                serverConnection.closeHandler(x -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.senderOpenHandler(serverSender -> {
+                AtomicInteger sent = new AtomicInteger();
+                serverSender.sendQueueDrainHandler(x -> {
+                    while (sent.get() < msgCountPerLink && !serverSender.sendQueueFull()) {
+                        final org.apache.qpid.proton.message.Message m = Proton.message();
+                        m.setBody(new AmqpValue(link * 1000 + sent.incrementAndGet()));
+                        serverSender.send(m);
+                    }
+                });
+
+                serverSender.open();
+            });
+        });
+
+        Map<String, Object> config = getConfig(UUID.randomUUID().toString(), server.actualPort());
+        config.put("links", 2);
+
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        Flow.Publisher<? extends Message<?>> publisher = provider.getPublisher(new MapBasedConfig(config));
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        publisher.subscribe(createSubscriber(messages, new AtomicBoolean()));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() >= 2 * msgCountPerLink);
+        assertThat(connections.get()).isEqualTo(2);
+        List<Integer> payloads = messages.stream().map(Message::getPayload).collect(Collectors.toList());
+        // Messages are ordered per link
+        assertThat(payloads.stream().filter(i -> i < 2000).collect(Collectors.toList()))
+                .isEqualTo(IntStream.rangeClosed(1001, 1000 + msgCountPerLink).boxed().collect(Collectors.toList()));
+        assertThat(payloads.stream().filter(i -> i > 2000).collect(Collectors.toList()))
+                .isEqualTo(IntStream.rangeClosed(2001, 2000 + msgCountPerLink).boxed().collect(Collectors.toList()));
+        await().until(() -> isAmqpConnectorReady(provider));
+        assertThat(provider.getReadiness().getChannels()).hasSize(2);
+    }
+
     @Test
     @Timeout(30)
     public void testABeanConsumingTheAMQPMessages() throws Exception {
@@ -591,6 +739,39 @@ public class AmqpSourceTest extends AmqpTestBase {
         });
     }
 
+    private MockServer setupMockServerTrackingCredits(int msgCount, List<DispositionRecord> dispositions,
+            AtomicInteger sent, AtomicInteger maxCredits, Vertx vertx) throws Exception {
+        return new MockServer(vertx, serverConnection -> {
+            serverConnection.openHandler(serverSender -> {
+                serverConnection.closeHandler(x -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.senderOpenHandler(serverSender -> {
+                serverSender.sendQueueDrainHandler(x -> {
+                    maxCredits.accumulateAndGet(serverSender.getCredit(), Math::max);
+                    while (sent.get() < msgCount && !serverSender.sendQueueFull()) {
+                        final org.apache.qpid.proton.message.Message m = Proton.message();
+                        final int i = sent.incrementAndGet();
+                        m.setBody(new AmqpValue(i));
+
+                        serverSender.send(m, delivery -> {
+                            DeliveryState deliveryState = delivery.getRemoteState();
+                            dispositions.add(new DispositionRecord(i, deliveryState, delivery.remotelySettled()));
+                        });
+                    }
+                });
+
+                serverSender.open();
+            });
+        });
+    }
+
     private MockServer setupMockServerForTypeTest(org.apache.qpid.proton.message.Message msg,
             List<DispositionRecord> dispositions, Vertx vertx) throws Exception {
         return new MockServer(vertx, serverConnection -> {
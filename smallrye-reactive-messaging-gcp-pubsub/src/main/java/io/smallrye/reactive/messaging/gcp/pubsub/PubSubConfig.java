@@ -5,6 +5,9 @@ import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubMessages.msg;
 import java.nio.file.Path;
 import java.util.Objects;
 
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.api.gax.batching.FlowControlSettings;
+
 public class PubSubConfig {
     // always required
     private final String projectId;
@@ -18,19 +21,41 @@ public class PubSubConfig {
     private final String host;
     private final Integer port;
 
+    // outgoing only, null to use the client defaults
+    private final BatchingSettings batchingSettings;
+
+    // incoming only, null to use the client defaults
+    private final FlowControlSettings flowControlSettings;
+    private final Integer parallelPullCount;
+    private final Integer executorThreadCount;
+
     public PubSubConfig(final String projectId, final String topic, final Path credentialPath, final boolean mockPubSubTopics,
             final String host, final Integer port) {
-        this.projectId = Objects.requireNonNull(projectId, msg.mustNotBeNull("projectId"));
-        this.topic = Objects.requireNonNull(topic, msg.mustNotBeNull("topic"));
-        this.credentialPath = credentialPath;
-        this.subscription = null;
-        this.mockPubSubTopics = mockPubSubTopics;
-        this.host = host;
-        this.port = port;
+        this(projectId, topic, credentialPath, null, mockPubSubTopics, host, port, null, null, null, null);
+    }
+
+    public PubSubConfig(final String projectId, final String topic, final Path credentialPath, final boolean mockPubSubTopics,
+            final String host, final Integer port, final BatchingSettings batchingSettings) {
+        this(projectId, topic, credentialPath, null, mockPubSubTopics, host, port, batchingSettings, null, null, null);
     }
 
     public PubSubConfig(final String projectId, final String topic, final Path credentialPath, final String subscription,
             final boolean mockPubSubTopics, final String host, final Integer port) {
+        this(projectId, topic, credentialPath, subscription, mockPubSubTopics, host, port, null, null, null, null);
+    }
+
+    public PubSubConfig(final String projectId, final String topic, final Path credentialPath, final String subscription,
+            final boolean mockPubSubTopics, final String host, final Integer port,
+            final FlowControlSettings flowControlSettings, final Integer parallelPullCount,
+            final Integer executorThreadCount) {
+        this(projectId, topic, credentialPath, subscription, mockPubSubTopics, host, port, null, flowControlSettings,
+                parallelPullCount, executorThreadCount);
+    }
+
+    private PubSubConfig(final String projectId, final String topic, final Path credentialPath, final String subscription,
+            final boolean mockPubSubTopics, final String host, final Integer port, final BatchingSettings batchingSettings,
+            final FlowControlSettings flowControlSettings, final Integer parallelPullCount,
+            final Integer executorThreadCount) {
         this.projectId = Objects.requireNonNull(projectId, msg.mustNotBeNull("projectId"));
         this.topic = Objects.requireNonNull(topic, msg.mustNotBeNull("topic"));
         this.credentialPath = credentialPath;
@@ -38,6 +63,10 @@ public class PubSubConfig {
         this.mockPubSubTopics = mockPubSubTopics;
         this.host = host;
         this.port = port;
+        this.batchingSettings = batchingSettings;
+        this.flowControlSettings = flowControlSettings;
+        this.parallelPullCount = parallelPullCount;
+        this.executorThreadCount = executorThreadCount;
     }
 
     public String getProjectId() {
@@ -68,6 +97,22 @@ public class PubSubConfig {
         return port;
     }
 
+    public BatchingSettings getBatchingSettings() {
+        return batchingSettings;
+    }
+
+    public FlowControlSettings getFlowControlSettings() {
+        return flowControlSettings;
+    }
+
+    public Integer getParallelPullCount() {
+        return parallelPullCount;
+    }
+
+    public Integer getExecutorThreadCount() {
+        return executorThreadCount;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -83,12 +128,17 @@ public class PubSubConfig {
                 Objects.equals(subscription, that.subscription) &&
                 mockPubSubTopics == that.mockPubSubTopics &&
                 Objects.equals(host, that.host) &&
-                Objects.equals(port, that.port);
+                Objects.equals(port, that.port) &&
+                Objects.equals(batchingSettings, that.batchingSettings) &&
+                Objects.equals(flowControlSettings, that.flowControlSettings) &&
+                Objects.equals(parallelPullCount, that.parallelPullCount) &&
+                Objects.equals(executorThreadCount, that.executorThreadCount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(projectId, topic, credentialPath, subscription, mockPubSubTopics, host, port);
+        return Objects.hash(projectId, topic, credentialPath, subscription, mockPubSubTopics, host, port,
+                batchingSettings, flowControlSettings, parallelPullCount, executorThreadCount);
     }
 
     @Override
@@ -101,6 +151,10 @@ public class PubSubConfig {
                 ", mockPubSubTopics=" + mockPubSubTopics +
                 ", host=" + host +
                 ", port=" + port +
+                ", batchingSettings=" + batchingSettings +
+                ", flowControlSettings=" + flowControlSettings +
+                ", parallelPullCount=" + parallelPullCount +
+                ", executorThreadCount=" + executorThreadCount +
                 ']';
     }
 }
@@ -4,7 +4,11 @@ import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubLogging.log;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
 
 import jakarta.annotation.PostConstruct;
@@ -19,10 +23,17 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.spi.Connector;
 import org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController;
 import com.google.api.gax.rpc.AlreadyExistsException;
 import com.google.api.gax.rpc.NotFoundException;
 import com.google.cloud.pubsub.v1.SubscriptionAdminClient;
 import com.google.cloud.pubsub.v1.TopicAdminClient;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.pubsub.v1.PubsubMessage;
@@ -41,6 +52,16 @@ public class PubSubConnector implements InboundConnector, OutboundConnector {
 
     static final String CONNECTOR_NAME = "smallrye-gcp-pubsub";
 
+    static final int DEFAULT_MAX_INFLIGHT_MESSAGES = 1024;
+
+    // The batching defaults of the Pub/Sub client
+    static final long DEFAULT_BATCHING_ELEMENT_COUNT_THRESHOLD = 100L;
+    static final long DEFAULT_BATCHING_REQUEST_BYTES_THRESHOLD = 1000L;
+    static final long DEFAULT_BATCHING_DELAY_THRESHOLD = 1L;
+
+    static final int DEFAULT_BATCH_SIZE = 500;
+    static final long DEFAULT_BATCH_TIMEOUT = 100L;
+
     @Inject
     @ConfigProperty(name = "gcp-pubsub-project-id")
     private String projectId;
@@ -64,6 +85,8 @@ public class PubSubConnector implements InboundConnector, OutboundConnector {
 
     private ExecutorService executorService;
 
+    private final Set<TopicName> checkedTopics = ConcurrentHashMap.newKeySet();
+
     @PostConstruct
     public void initialize() {
         executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
@@ -81,32 +104,76 @@ public class PubSubConnector implements InboundConnector, OutboundConnector {
     @Override
     public Flow.Publisher<? extends Message<?>> getPublisher(final Config config) {
         final PubSubConfig pubSubConfig = new PubSubConfig(getProjectId(config), getTopic(config), getCredentialPath(config),
-                getSubscription(config), mockPubSubTopics, host.orElse(null), port.orElse(null));
+                getSubscription(config), mockPubSubTopics, host.orElse(null), port.orElse(null),
+                getFlowControlSettings(config).orElse(null),
+                config.getOptionalValue("parallel-pull-count", Integer.class).orElse(null),
+                config.getOptionalValue("executor-thread-count", Integer.class).orElse(null));
 
-        return Multi.createFrom().uni(Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> {
-            if (isUseAdminClient(config)) {
-                log.adminClientEnabled();
-                createTopic(pubSubConfig);
-                createSubscription(pubSubConfig);
-            }
-            return pubSubConfig;
-        }, executorService))).onItem()
+        final Multi<Message<?>> messages = Multi.createFrom()
+                .uni(Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> {
+                    if (isUseAdminClient(config)) {
+                        log.adminClientEnabled();
+                        createTopic(pubSubConfig);
+                        createSubscription(pubSubConfig);
+                    }
+                    return pubSubConfig;
+                }, executorService))).onItem()
                 .transformToMultiAndConcatenate(cfg -> Multi.createFrom().emitter(new PubSubSource(cfg, pubSubManager)));
+
+        if (!config.getOptionalValue("batch", Boolean.class).orElse(false)) {
+            return messages;
+        }
+        final int batchSize = config.getOptionalValue("batch-size", Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        final long batchTimeout = config.getOptionalValue("batch-timeout", Long.class).orElse(DEFAULT_BATCH_TIMEOUT);
+        return messages
+                .group().intoLists().of(batchSize, Duration.ofMillis(batchTimeout))
+                .map(PubSubConnector::toBatch);
     }
 
     @Override
     public Flow.Subscriber<? extends Message<?>> getSubscriber(final Config config) {
         final PubSubConfig pubSubConfig = new PubSubConfig(getProjectId(config), getTopic(config), getCredentialPath(config),
-                mockPubSubTopics, host.orElse(null), port.orElse(null));
+                mockPubSubTopics, host.orElse(null), port.orElse(null), getBatchingSettings(config));
+        // Stay below the publisher flow control, which would block the caller thread
+        final int maxInflightMessages = Math.min(
+                config.getOptionalValue("max-inflight-messages", Integer.class).orElse(DEFAULT_MAX_INFLIGHT_MESSAGES),
+                config.getOptionalValue("flow-control.max-outstanding-messages", Integer.class).orElse(Integer.MAX_VALUE));
+        final boolean useAdminClient = isUseAdminClient(config);
+
+        return MultiUtils.via(m -> m
+                .onSubscription().call(() -> useAdminClient ? checkTopic(pubSubConfig) : Uni.createFrom().voidItem())
+                // The publisher batches the messages, keep up to max-inflight-messages messages waiting for their batch
+                .onItem().<Message<?>> transformToUni(message -> publish(pubSubConfig, message))
+                .merge(maxInflightMessages));
+    }
 
-        return MultiUtils.via(m -> m.onItem()
-                .transformToUniAndConcatenate(message -> Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> {
-                    if (isUseAdminClient(config)) {
-                        log.adminClientEnabled();
-                        createTopic(pubSubConfig);
+    private Uni<Message<?>> publish(final PubSubConfig config, final Message<?> message) {
+        return toUni(pubSubManager.publisher(config).publish(buildMessage(message)))
+                .onItemOrFailure().transformToUni((id, failure) -> {
+                    if (failure != null) {
+                        log.unableToPublish(config.getTopic(), failure);
+                        return Uni.createFrom().completionStage(message.nack(failure)).replaceWith(message);
                     }
-                    return await(pubSubManager.publisher(pubSubConfig).publish(buildMessage(message)));
-                }, executorService))));
+                    return Uni.createFrom().completionStage(message.ack()).replaceWith(message);
+                });
+    }
+
+    /**
+     * Creates the topic if it does not exist yet.
+     * The existence of a topic is checked once, whatever the number of channels using it.
+     */
+    private Uni<Void> checkTopic(final PubSubConfig config) {
+        final TopicName topicName = TopicName.of(config.getProjectId(), config.getTopic());
+        if (checkedTopics.contains(topicName)) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem()
+                .invoke(() -> {
+                    log.adminClientEnabled();
+                    createTopic(config);
+                    checkedTopics.add(topicName);
+                })
+                .runSubscriptionOn(executorService);
     }
 
     private String getProjectId(Config config) {
@@ -187,14 +254,65 @@ public class PubSubConnector implements InboundConnector, OutboundConnector {
         }
     }
 
-    private static <T> T await(final Future<T> future) {
-        try {
-            return future.get();
-        } catch (final ExecutionException e) {
-            throw new IllegalStateException(e);
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException(e);
+    private static BatchingSettings getBatchingSettings(final Config config) {
+        final Optional<Long> elementCount = config.getOptionalValue("batching.element-count-threshold", Long.class);
+        final Optional<Long> requestBytes = config.getOptionalValue("batching.request-bytes-threshold", Long.class);
+        final Optional<Long> delay = config.getOptionalValue("batching.delay-threshold", Long.class);
+        final Optional<FlowControlSettings> flowControlSettings = getFlowControlSettings(config);
+        if (elementCount.isEmpty() && requestBytes.isEmpty() && delay.isEmpty() && flowControlSettings.isEmpty()) {
+            // Use the client defaults
+            return null;
+        }
+
+        final BatchingSettings.Builder builder = BatchingSettings.newBuilder()
+                .setIsEnabled(true)
+                .setElementCountThreshold(elementCount.orElse(DEFAULT_BATCHING_ELEMENT_COUNT_THRESHOLD))
+                .setRequestByteThreshold(requestBytes.orElse(DEFAULT_BATCHING_REQUEST_BYTES_THRESHOLD))
+                .setDelayThreshold(org.threeten.bp.Duration.ofMillis(delay.orElse(DEFAULT_BATCHING_DELAY_THRESHOLD)));
+        flowControlSettings.ifPresent(builder::setFlowControlSettings);
+        return builder.build();
+    }
+
+    /**
+     * On an outgoing channel, bounds the messages waiting to be published. The sink never publishes more than
+     * {@code flow-control.max-outstanding-messages} messages at a time, so it does not block on this limit.
+     * On an incoming channel, bounds the messages received and not acked or nacked yet, which includes the messages
+     * waiting for downstream demand.
+     */
+    private static Optional<FlowControlSettings> getFlowControlSettings(final Config config) {
+        final Optional<Long> maxOutstandingMessages = config.getOptionalValue("flow-control.max-outstanding-messages",
+                Long.class);
+        final Optional<Long> maxOutstandingBytes = config.getOptionalValue("flow-control.max-outstanding-bytes", Long.class);
+        if (maxOutstandingMessages.isEmpty() && maxOutstandingBytes.isEmpty()) {
+            // Use the client defaults
+            return Optional.empty();
         }
+        return Optional.of(FlowControlSettings.newBuilder()
+                .setMaxOutstandingElementCount(maxOutstandingMessages.orElse(null))
+                .setMaxOutstandingRequestBytes(maxOutstandingBytes.orElse(null))
+                .setLimitExceededBehavior(FlowController.LimitExceededBehavior.Block)
+                .build());
+    }
+
+    private static Message<?> toBatch(final List<Message<?>> messages) {
+        final List<PubSubMessage> batch = new ArrayList<>(messages.size());
+        for (final Message<?> message : messages) {
+            batch.add((PubSubMessage) message);
+        }
+        return new PubSubMessageBatch(batch);
+    }
+
+    private static <T> Uni<T> toUni(final ApiFuture<T> future) {
+        return Uni.createFrom().emitter(emitter -> ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+            @Override
+            public void onFailure(final Throwable t) {
+                emitter.fail(t);
+            }
+
+            @Override
+            public void onSuccess(final T result) {
+                emitter.complete(result);
+            }
+        }, MoreExecutors.directExecutor()));
     }
 }
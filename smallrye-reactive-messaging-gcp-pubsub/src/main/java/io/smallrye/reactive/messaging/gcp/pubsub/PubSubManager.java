@@ -20,6 +20,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import com.google.api.gax.core.BackgroundResource;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.core.InstantiatingExecutorProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
 import com.google.api.gax.grpc.GrpcTransportChannel;
 import com.google.api.gax.rpc.FixedTransportChannelProvider;
@@ -141,6 +142,9 @@ public class PubSubManager {
 
             buildCredentialsProvider(config).ifPresent(publisherBuilder::setCredentialsProvider);
             buildTransportChannelProvider(config).ifPresent(publisherBuilder::setChannelProvider);
+            if (config.getBatchingSettings() != null) {
+                publisherBuilder.setBatchingSettings(config.getBatchingSettings());
+            }
 
             return publisherBuilder.build();
         } catch (final IOException e) {
@@ -156,6 +160,17 @@ public class PubSubManager {
 
         buildCredentialsProvider(config).ifPresent(subscriberBuilder::setCredentialsProvider);
         buildTransportChannelProvider(config).ifPresent(subscriberBuilder::setChannelProvider);
+        if (config.getFlowControlSettings() != null) {
+            subscriberBuilder.setFlowControlSettings(config.getFlowControlSettings());
+        }
+        if (config.getParallelPullCount() != null) {
+            subscriberBuilder.setParallelPullCount(config.getParallelPullCount());
+        }
+        if (config.getExecutorThreadCount() != null) {
+            subscriberBuilder.setExecutorProvider(InstantiatingExecutorProvider.newBuilder()
+                    .setExecutorThreadCount(config.getExecutorThreadCount())
+                    .build());
+        }
 
         return subscriberBuilder.build();
     }
@@ -5,6 +5,7 @@ import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubMessages.msg;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -51,6 +52,20 @@ public class PubSubMessage implements Message<String> {
         return this::ack;
     }
 
+    @Override
+    public CompletionStage<Void> nack(Throwable reason, Metadata metadata) {
+        // Request a redelivery, it also releases the flow control permit held by the message
+        if (ackReplyConsumer != null) {
+            ackReplyConsumer.nack();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public BiFunction<Throwable, Metadata, CompletionStage<Void>> getNackWithMetadata() {
+        return this::nack;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
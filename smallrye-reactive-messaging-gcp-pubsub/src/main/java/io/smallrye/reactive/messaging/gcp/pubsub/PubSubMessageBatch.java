@@ -0,0 +1,68 @@
+package io.smallrye.reactive.messaging.gcp.pubsub;
+
+import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubMessages.msg;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+
+/**
+ * A batch of messages received from a Pub/Sub subscription, delivered when the incoming channel is configured with
+ * {@code batch=true}. Acknowledging (resp. nacking) the batch acknowledges (resp. nacks) every message of the batch.
+ */
+public class PubSubMessageBatch implements Message<List<String>> {
+
+    private final List<PubSubMessage> messages;
+
+    public PubSubMessageBatch(final List<PubSubMessage> messages) {
+        this.messages = Collections.unmodifiableList(Objects.requireNonNull(messages, msg.isRequired("messages")));
+    }
+
+    public List<PubSubMessage> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public List<String> getPayload() {
+        return messages.stream().map(PubSubMessage::getPayload).collect(Collectors.toList());
+    }
+
+    @Override
+    public CompletionStage<Void> ack(Metadata metadata) {
+        return CompletableFuture.allOf(messages.stream()
+                .map(message -> message.ack(metadata).toCompletableFuture())
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public Function<Metadata, CompletionStage<Void>> getAckWithMetadata() {
+        return this::ack;
+    }
+
+    @Override
+    public CompletionStage<Void> nack(Throwable reason, Metadata metadata) {
+        return CompletableFuture.allOf(messages.stream()
+                .map(message -> message.nack(reason, metadata).toCompletableFuture())
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public BiFunction<Throwable, Metadata, CompletionStage<Void>> getNackWithMetadata() {
+        return this::nack;
+    }
+
+    @Override
+    public String toString() {
+        return "PubSubMessageBatch[" +
+                "messages=" + messages +
+                ']';
+    }
+}
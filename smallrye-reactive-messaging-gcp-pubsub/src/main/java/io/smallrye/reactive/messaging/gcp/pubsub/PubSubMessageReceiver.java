@@ -24,6 +24,13 @@ public class PubSubMessageReceiver implements MessageReceiver {
     @Override
     public void receiveMessage(final PubsubMessage message, final AckReplyConsumer ackReplyConsumer) {
         log.receivedMessage(message);
+        if (emitter.isCancelled()) {
+            // Nobody is going to process the message, let Pub/Sub redeliver it
+            ackReplyConsumer.nack();
+            return;
+        }
+        // The emitter buffer does not need a bound of its own: the subscriber flow control counts every message
+        // until it is acked or nacked, so no more than max-outstanding-messages are ever waiting for demand.
         emitter.emit(new PubSubMessage(message, ackReplyConsumer));
     }
 
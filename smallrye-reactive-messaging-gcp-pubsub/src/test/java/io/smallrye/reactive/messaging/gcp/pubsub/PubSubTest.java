@@ -1,10 +1,15 @@
 package io.smallrye.reactive.messaging.gcp.pubsub;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.spi.Connector;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.google.api.gax.rpc.NotFoundException;
 import com.google.pubsub.v1.ProjectTopicName;
 import com.google.pubsub.v1.TopicName;
 
@@ -67,6 +73,136 @@ public class PubSubTest extends PubSubTestBase {
         assertThat(consumptionBean.getMessages()).allSatisfy(s -> assertThat(s).startsWith("Hello-"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSinkAcknowledgesPublishedMessages() {
+        final MapBasedConfig config = createSourceConfig(TOPIC, null, PUBSUB_CONTAINER.getFirstMappedPort());
+        config.put("topic", TOPIC);
+        config.put("max-inflight-messages", 5);
+        config.put("batching.element-count-threshold", 10L);
+        config.put("batching.delay-threshold", 50L);
+        config.write();
+
+        final AtomicInteger emitted = new AtomicInteger();
+        final AtomicInteger acked = new AtomicInteger();
+        final AtomicInteger maxInflight = new AtomicInteger();
+        final Flow.Subscriber<? extends Message<?>> subscriber = getConnector().getSubscriber(config);
+        Multi.createFrom().range(0, 20)
+                .map(i -> Message.of("Hello-" + i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .invoke(() -> maxInflight.accumulateAndGet(emitted.incrementAndGet() - acked.get(), Math::max))
+                .subscribe((Flow.Subscriber<Message<String>>) subscriber);
+
+        await().until(() -> acked.get() == 20);
+        // The messages are published concurrently, up to max-inflight-messages at a time
+        assertThat(maxInflight.get()).isEqualTo(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSinkDoesNotExceedPublisherFlowControl() {
+        final MapBasedConfig config = createSourceConfig(TOPIC, null, PUBSUB_CONTAINER.getFirstMappedPort());
+        config.put("topic", TOPIC);
+        config.put("max-inflight-messages", 10);
+        config.put("batching.element-count-threshold", 100L);
+        config.put("batching.delay-threshold", 50L);
+        config.put("flow-control.max-outstanding-messages", 2L);
+        config.write();
+
+        final AtomicInteger emitted = new AtomicInteger();
+        final AtomicInteger acked = new AtomicInteger();
+        final AtomicInteger nacked = new AtomicInteger();
+        final AtomicInteger maxInflight = new AtomicInteger();
+        final Flow.Subscriber<? extends Message<?>> subscriber = getConnector().getSubscriber(config);
+        Multi.createFrom().range(0, 20)
+                .map(i -> Message.of("Hello-" + i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }, reason -> {
+                    nacked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .invoke(() -> maxInflight.accumulateAndGet(emitted.incrementAndGet() - acked.get(), Math::max))
+                .subscribe((Flow.Subscriber<Message<String>>) subscriber);
+
+        // The sink waits for the outstanding messages to be published instead of exceeding the limit
+        await().until(() -> acked.get() == 20);
+        assertThat(nacked.get()).isZero();
+        assertThat(maxInflight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTopicIsCheckedOnce() {
+        final MapBasedConfig config = createSourceConfig(TOPIC, null, PUBSUB_CONTAINER.getFirstMappedPort());
+        config.put("topic", TOPIC);
+        config.write();
+
+        final AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().item(Message.of("Hello-0", () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        })).subscribe((Flow.Subscriber<Message<String>>) getConnector().getSubscriber(config));
+        await().until(() -> acked.get() == 1);
+
+        final PubSubManager manager = container.select(PubSubManager.class).get();
+        deleteTopicIfExists(manager, TOPIC);
+
+        // The topic has already been checked, another channel using it does not create it again
+        final AtomicInteger nacked = new AtomicInteger();
+        Multi.createFrom().item(Message.of("Hello-1", () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            nacked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        })).subscribe((Flow.Subscriber<Message<String>>) getConnector().getSubscriber(config));
+        await().until(() -> nacked.get() == 1);
+        assertThat(acked.get()).isEqualTo(1);
+        assertThatThrownBy(() -> manager.topicAdminClient(this.config).getTopic(TopicName.of(PROJECT_ID, TOPIC)))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchConsumption() {
+        final MapBasedConfig config = createSourceConfig(TOPIC, SUBSCRIPTION + "-batch",
+                PUBSUB_CONTAINER.getFirstMappedPort());
+        config.put("topic", TOPIC);
+        config.put("subscription", SUBSCRIPTION + "-batch");
+        config.put("batch", true);
+        config.put("batch-size", 5);
+        config.put("flow-control.max-outstanding-messages", 10L);
+        config.put("parallel-pull-count", 2);
+        config.put("executor-thread-count", 2);
+        config.write();
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final Flow.Publisher<? extends Message<?>> publisher = getConnector().getPublisher(config);
+        Multi.createFrom().publisher((Flow.Publisher<Message<?>>) publisher)
+                .subscribe().with(message -> {
+                    assertThat(message).isInstanceOf(PubSubMessageBatch.class);
+                    received.addAll(((PubSubMessageBatch) message).getPayload());
+                    message.ack();
+                });
+
+        // wait until the subscription is ready
+        final PubSubManager manager = container.select(PubSubManager.class).get();
+        await().until(() -> manager
+                .topicAdminClient(this.config)
+                .listTopicSubscriptions((TopicName) ProjectTopicName.of(PROJECT_ID, TOPIC))
+                .getPage()
+                .getPageElementCount() > 0);
+
+        for (int i = 0; i < 20; i++) {
+            send("Hello-" + i, TOPIC);
+        }
+        await().until(() -> received.size() >= 20);
+        assertThat(received).allSatisfy(s -> assertThat(s).startsWith("Hello-"));
+    }
+
     @SuppressWarnings("unchecked")
     private void send(final String message, final String topic) {
         final Flow.Subscriber<? extends Message<?>> subscriber = createSinkSubscriber(topic);
@@ -1,11 +1,20 @@
 package io.smallrye.reactive.messaging.json.jackson;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import io.smallrye.reactive.messaging.json.JsonMapping;
 
@@ -16,6 +25,10 @@ public class JacksonMapping implements JsonMapping {
     @Inject
     ObjectMapper objectMapper;
 
+    // Readers and writers are immutable and thread-safe, resolve them once per type
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     @Override
     public String toJson(Object object) {
         try {
@@ -25,6 +38,24 @@ public class JacksonMapping implements JsonMapping {
         }
     }
 
+    @Override
+    public byte[] toJsonBytes(Object object) {
+        try {
+            return writer(object).writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void toJson(Object object, OutputStream out) {
+        try {
+            writer(object).writeValue(out, object);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public <T> T fromJson(String str, Class<T> type) {
         try {
@@ -33,4 +64,54 @@ public class JacksonMapping implements JsonMapping {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Deserialize an object from it's JSON string representation, supporting generic types such as
+     * {@code List<Person>}. The {@code byte[]} and {@link InputStream} variants follow.
+     */
+    public <T> T fromJson(String str, Type type) {
+        try {
+            return reader(type).readValue(str);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(byte[] bytes, Class<T> type) {
+        return fromJson(bytes, (Type) type);
+    }
+
+    public <T> T fromJson(byte[] bytes, Type type) {
+        try {
+            return reader(type).readValue(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Class<T> type) {
+        return fromJson(in, (Type) type);
+    }
+
+    public <T> T fromJson(InputStream in, Type type) {
+        try {
+            return reader(type).readValue(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type,
+                t -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(t)));
+    }
+
+    private ObjectWriter writer(Object object) {
+        if (object == null) {
+            return objectMapper.writer();
+        }
+        return writers.computeIfAbsent(object.getClass(), objectMapper::writerFor);
+    }
 }
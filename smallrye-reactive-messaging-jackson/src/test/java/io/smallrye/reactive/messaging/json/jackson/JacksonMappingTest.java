@@ -2,7 +2,13 @@ package io.smallrye.reactive.messaging.json.jackson;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.jboss.weld.environment.se.WeldContainer;
 import org.junit.jupiter.api.DisplayName;
@@ -24,4 +30,46 @@ public class JacksonMappingTest extends JmsTestBase {
         final String testObjectAsJson = "{\"my_id\": 1, \"my_Payload\": \"Lorem ipsum\"}";
         assertThat(mapping.toJson(mapping.fromJson(testObjectAsJson, TestObject.class))).isNotNull();
     }
+
+    @Test
+    @DisplayName("Test the conversion from bytes and streams to object and back")
+    void identityBytes() {
+        MapBasedConfig config = new MapBasedConfig(Collections.emptyMap());
+        addConfig(config);
+        WeldContainer container = deploy();
+
+        JacksonMapping mapping = container.select(JacksonMapping.class).get();
+        byte[] json = mapping.toJsonBytes(new Person("Luke", 42));
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(mapping.toJson(new Person("Luke", 42)));
+
+        Person person = mapping.fromJson(json, Person.class);
+        assertThat(person.getName()).isEqualTo("Luke");
+        assertThat(person.getAge()).isEqualTo(42);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapping.toJson(person, out);
+        person = mapping.fromJson(new ByteArrayInputStream(out.toByteArray()), Person.class);
+        assertThat(person.getName()).isEqualTo("Luke");
+        assertThat(person.getAge()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Test the conversion to generic types")
+    void genericType() {
+        MapBasedConfig config = new MapBasedConfig(Collections.emptyMap());
+        addConfig(config);
+        WeldContainer container = deploy();
+
+        JacksonMapping mapping = container.select(JacksonMapping.class).get();
+        Type type = new ArrayList<Person>() {
+        }.getClass().getGenericSuperclass();
+        byte[] json = mapping.toJsonBytes(List.of(new Person("Luke", 42), new Person("Leia", 42)));
+
+        List<Person> fromBytes = mapping.fromJson(json, type);
+        assertThat(fromBytes).extracting(Person::getName).containsExactly("Luke", "Leia");
+        List<Person> fromString = mapping.fromJson(new String(json, StandardCharsets.UTF_8), type);
+        assertThat(fromString).extracting(Person::getName).containsExactly("Luke", "Leia");
+        List<Person> fromStream = mapping.fromJson(new ByteArrayInputStream(json), type);
+        assertThat(fromStream).extracting(Person::getName).containsExactly("Luke", "Leia");
+    }
 }
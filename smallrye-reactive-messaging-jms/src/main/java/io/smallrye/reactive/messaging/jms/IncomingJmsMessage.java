@@ -2,19 +2,30 @@ package io.smallrye.reactive.messaging.jms;
 
 import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import jakarta.jms.BytesMessage;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 
 import org.eclipse.microprofile.reactive.messaging.Metadata;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.jms.impl.ClassCache;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 
 public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.messaging.Message<T> {
+
+    /**
+     * The payload types decoded from their string representation by {@link #convert(String)}, other types are JSON.
+     */
+    private static final Set<Class<?>> STRING_CONVERTIBLE_TYPES = Set.of(Integer.class, Long.class, Double.class,
+            Float.class, Boolean.class, Short.class, Byte.class, String.class);
+
     private final Message delegate;
     private final Executor executor;
     private final Class<T> clazz;
@@ -22,7 +33,18 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
     private final IncomingJmsMessageMetadata jmsMetadata;
     private final Metadata metadata;
 
+    /**
+     * Whether the payload has been decoded, the payload is decoded at most once.
+     */
+    private volatile boolean decoded;
+    private T payload;
+
     IncomingJmsMessage(Message message, Executor executor, JsonMapping jsonMapping) {
+        this(message, executor, jsonMapping, new ClassCache());
+    }
+
+    @SuppressWarnings("unchecked")
+    IncomingJmsMessage(Message message, Executor executor, JsonMapping jsonMapping, ClassCache classes) {
         this.delegate = message;
         this.jsonMapping = jsonMapping;
         this.executor = executor;
@@ -36,7 +58,7 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
             // ignore it
         }
         try {
-            this.clazz = cn != null ? load(cn) : null;
+            this.clazz = cn != null ? (Class<T>) classes.load(cn) : null;
         } catch (ClassNotFoundException e) {
             throw ex.illegalStateUnableToLoadClass(e);
         }
@@ -45,33 +67,58 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
         this.metadata = Metadata.of(this.jmsMetadata);
     }
 
-    @SuppressWarnings("unchecked")
-    private Class<T> load(String cn) throws ClassNotFoundException {
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        if (loader != null) {
-            try {
-                return (Class<T>) loader.loadClass(cn);
-            } catch (ClassNotFoundException e) {
-                // Will try with the current class classloader
+    @Override
+    public T getPayload() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+                    payload = decode();
+                    decoded = true;
+                }
             }
         }
-        return (Class<T>) IncomingJmsMessage.class.getClassLoader().loadClass(cn);
+        return payload;
     }
 
-    @Override
     @SuppressWarnings("unchecked")
-    public T getPayload() {
+    private T decode() {
         try {
-            if (clazz != null) {
-                return convert(delegate.getBody(String.class));
-            } else {
+            if (clazz == null) {
                 return (T) delegate.getBody(Object.class);
             }
+            if (delegate instanceof BytesMessage) {
+                byte[] bytes = readBytes((BytesMessage) delegate);
+                if (clazz.equals(byte[].class)) {
+                    return (T) bytes;
+                }
+                if (!STRING_CONVERTIBLE_TYPES.contains(clazz)) {
+                    // Map the JSON bytes directly, without an intermediate String
+                    return jsonMapping.fromJson(bytes, clazz);
+                }
+                return convert(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return convert(delegate.getBody(String.class));
         } catch (JMSException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * Reads the body of a bytes message directly into an array of the body length, instead of going through
+     * {@link Message#getBody(Class)}.
+     */
+    private static byte[] readBytes(BytesMessage message) throws JMSException {
+        message.reset();
+        long length = message.getBodyLength();
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Message body too large: " + length + " bytes");
+        }
+        byte[] bytes = new byte[(int) length];
+        // The body is read in a single call, as its remaining length is the length of the array
+        message.readBytes(bytes);
+        return bytes;
+    }
+
     @SuppressWarnings("unchecked")
     private T convert(String value) {
         if (clazz.equals(Integer.class)) {
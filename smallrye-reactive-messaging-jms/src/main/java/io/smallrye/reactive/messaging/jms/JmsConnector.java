@@ -31,6 +31,7 @@ import io.smallrye.reactive.messaging.annotations.ConnectorAttribute;
 import io.smallrye.reactive.messaging.annotations.ConnectorAttribute.Direction;
 import io.smallrye.reactive.messaging.connector.InboundConnector;
 import io.smallrye.reactive.messaging.connector.OutboundConnector;
+import io.smallrye.reactive.messaging.jms.impl.ClassCache;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 
@@ -47,6 +48,8 @@ import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 @ConnectorAttribute(name = "no-local", description = "Enable or disable local delivery", direction = Direction.INCOMING, type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "broadcast", description = "Whether or not the JMS message should be dispatched to multiple consumers", direction = Direction.INCOMING, type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "durable", description = "Set to `true` to use a durable subscription", direction = Direction.INCOMING, type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "consumer-count", description = "The number of JMS sessions consuming the destination concurrently, each one with its own consumer and thread. When greater than 1, the messages are not received in order, and topics are consumed with a shared subscription named after the destination", direction = Direction.INCOMING, type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "receive-timeout", description = "When `consumer-count` is greater than 1, the maximum time in milliseconds a consumer waits for a message when none is available, before checking the demand again and running the pending acknowledgements", direction = Direction.INCOMING, type = "long", defaultValue = "100")
 @ConnectorAttribute(name = "destination-type", description = "The type of destination. It can be either `queue` or `topic`", direction = Direction.INCOMING_AND_OUTGOING, type = "string", defaultValue = "queue")
 
 @ConnectorAttribute(name = "disable-message-id", description = "Omit the message id in the outbound JMS message", direction = Direction.OUTGOING, type = "boolean")
@@ -58,6 +61,10 @@ import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 @ConnectorAttribute(name = "priority", description = "The JMS Message priority", direction = Direction.OUTGOING, type = "int")
 @ConnectorAttribute(name = "reply-to", description = "The reply to destination if any", direction = Direction.OUTGOING, type = "string")
 @ConnectorAttribute(name = "reply-to-destination-type", description = "The type of destination for the response. It can be either `queue` or `topic`", direction = Direction.OUTGOING, type = "string", defaultValue = "queue")
+@ConnectorAttribute(name = "batch-size", description = "The maximum number of messages sent in a single transaction. When greater than 1, messages are grouped and committed together, and acknowledged once the transaction is committed. Requires the `SESSION_TRANSACTED` session mode", direction = OUTGOING, type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "batch-timeout", description = "The maximum time in milliseconds to wait for `batch-size` messages before committing the messages received so far", direction = OUTGOING, type = "long", defaultValue = "100")
+@ConnectorAttribute(name = "async-send", description = "Whether messages are sent asynchronously, using a JMS 2.0 `CompletionListener`. Messages are acknowledged once the broker confirmed their reception", direction = OUTGOING, type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "max-inflight-messages", description = "When `async-send` is enabled, the maximum number of messages sent and waiting for their completion", direction = OUTGOING, type = "int", defaultValue = "256")
 @ConnectorAttribute(name = "merge", direction = OUTGOING, description = "Whether the connector should allow multiple upstreams", type = "boolean", defaultValue = "false")
 public class JmsConnector implements InboundConnector, OutboundConnector {
 
@@ -95,7 +102,12 @@ public class JmsConnector implements InboundConnector, OutboundConnector {
 
     private ExecutorService executor;
     private JsonMapping jsonMapping;
+    /**
+     * The classes of the payloads received by the incoming channels, shared by the channels.
+     */
+    private final ClassCache classes = new ClassCache();
     private final List<JmsSource> sources = new CopyOnWriteArrayList<>();
+    private final List<JmsSink> sinks = new CopyOnWriteArrayList<>();
     private final List<JMSContext> contexts = new CopyOnWriteArrayList<>();
 
     @PostConstruct
@@ -118,6 +130,7 @@ public class JmsConnector implements InboundConnector, OutboundConnector {
     @PreDestroy
     public void cleanup() {
         sources.forEach(JmsSource::close);
+        sinks.forEach(JmsSink::close);
         contexts.forEach(JMSContext::close);
         this.executor.shutdown();
     }
@@ -127,7 +140,7 @@ public class JmsConnector implements InboundConnector, OutboundConnector {
         JmsConnectorIncomingConfiguration ic = new JmsConnectorIncomingConfiguration(config);
         JMSContext context = createJmsContext(ic);
         contexts.add(context);
-        JmsSource source = new JmsSource(context, ic, jsonMapping, executor);
+        JmsSource source = new JmsSource(context, ic, jsonMapping, executor, classes);
         sources.add(source);
         return source.getSource();
     }
@@ -148,7 +161,9 @@ public class JmsConnector implements InboundConnector, OutboundConnector {
         JmsConnectorOutgoingConfiguration oc = new JmsConnectorOutgoingConfiguration(config);
         JMSContext context = createJmsContext(oc);
         contexts.add(context);
-        return new JmsSink(context, oc, jsonMapping, executor).getSink();
+        JmsSink sink = new JmsSink(context, oc, jsonMapping, executor);
+        sinks.add(sink);
+        return sink.getSink();
     }
 
     private ConnectionFactory pickTheFactory(String factoryName) {
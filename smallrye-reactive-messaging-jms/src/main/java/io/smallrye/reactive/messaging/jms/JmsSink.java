@@ -3,10 +3,15 @@ package io.smallrye.reactive.messaging.jms;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsLogging.log;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
 
 import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
 import jakarta.jms.DeliveryMode;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSContext;
@@ -15,6 +20,7 @@ import jakarta.jms.JMSProducer;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 import io.smallrye.reactive.messaging.providers.helpers.MultiUtils;
@@ -27,6 +33,12 @@ class JmsSink {
     private final JMSContext context;
     private final JsonMapping jsonMapping;
     private final Executor executor;
+    private final String channel;
+    /**
+     * The thread sending the messages when {@code async-send} is enabled, created on the first send.
+     */
+    private ExecutorService sender;
+    private boolean closed;
 
     JmsSink(JMSContext context, JmsConnectorOutgoingConfiguration config, JsonMapping jsonMapping, Executor executor) {
         String name = config.getDestination().orElseGet(config::getChannel);
@@ -35,6 +47,7 @@ class JmsSink {
         this.context = context;
         this.jsonMapping = jsonMapping;
         this.executor = executor;
+        this.channel = config.getChannel();
 
         producer = context.createProducer();
         config.getDeliveryDelay().ifPresent(producer::setDeliveryDelay);
@@ -65,79 +78,190 @@ class JmsSink {
             producer.setJMSReplyTo(replyToDestination);
         });
 
-        sink = MultiUtils.via(m -> m.onItem().transformToUniAndConcatenate(this::send)
-                .onFailure().invoke(log::unableToSend));
+        int batchSize = config.getBatchSize();
+        boolean async = config.getAsyncSend();
+        if (batchSize > 1 && context.getSessionMode() != JMSContext.SESSION_TRANSACTED) {
+            throw ex.illegalArgumentBatchRequiresTransactedSession(batchSize);
+        }
+        if (batchSize > 1 && async) {
+            throw ex.illegalArgumentBatchAndAsyncSend();
+        }
+
+        if (batchSize > 1) {
+            Duration timeout = Duration.ofMillis(config.getBatchTimeout());
+            sink = MultiUtils.via(m -> m.group().intoLists().of(batchSize, timeout)
+                    .onItem().transformToMultiAndConcatenate(this::sendBatch)
+                    .onFailure().invoke(log::unableToSend));
+        } else if (async) {
+            // JMSContext is not thread-safe, so sends are executed one at a time on a dedicated thread
+            sink = MultiUtils.via(m -> m.onItem().<Message<?>> transformToUni(this::sendAsync)
+                    .merge(config.getMaxInflightMessages())
+                    .onTermination().invoke(this::close)
+                    .onFailure().invoke(log::unableToSend));
+        } else {
+            sink = MultiUtils.via(m -> m.onItem().transformToUniAndConcatenate(this::send)
+                    .onFailure().invoke(log::unableToSend));
+        }
 
     }
 
     private Uni<? extends Message<?>> send(Message<?> message) {
+        try {
+            JmsOutgoing outgoing = toJmsMessage(message);
+            return dispatch(message, () -> producer.send(outgoing.destination, outgoing.message));
+        } catch (JMSException e) {
+            return Uni.createFrom().failure(new IllegalStateException(e));
+        }
+    }
+
+    /**
+     * Sends a batch of messages in a single transaction.
+     * The messages are acknowledged once the transaction is committed, and nacked if the transaction is rolled back.
+     */
+    private Multi<Message<?>> sendBatch(List<Message<?>> batch) {
+        return Uni.createFrom().voidItem()
+                .invoke(() -> commit(batch))
+                .runSubscriptionOn(executor)
+                // Continue with the failure, if any, so the messages of the batch are nacked
+                .onItemOrFailure().transform((x, failure) -> failure)
+                .onItem().transformToMulti(failure -> Multi.createFrom().iterable(batch)
+                        .onItem().call(message -> Uni.createFrom().completionStage(
+                                failure == null ? message.ack() : message.nack(failure))));
+    }
+
+    private void commit(List<Message<?>> batch) {
+        try {
+            for (Message<?> message : batch) {
+                JmsOutgoing outgoing = toJmsMessage(message);
+                producer.send(outgoing.destination, outgoing.message);
+            }
+            context.commit();
+        } catch (JMSException | RuntimeException e) {
+            log.unableToSend(e);
+            try {
+                context.rollback();
+            } catch (RuntimeException ignored) {
+                // the transaction is rolled back when the session is closed
+            }
+            throw e instanceof JMSException ? new IllegalStateException(e) : (RuntimeException) e;
+        }
+    }
+
+    /**
+     * Creates the daemon thread sending the messages on the first send.
+     */
+    private synchronized Executor sender() {
+        if (sender == null) {
+            sender = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "jms-sender-" + channel);
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (closed) {
+                // Reject the sends, so the messages are nacked
+                sender.shutdown();
+            }
+        }
+        return sender;
+    }
+
+    /**
+     * Sends a message with a {@link CompletionListener}.
+     * The message is acknowledged when the completion is received, and nacked if the send fails.
+     */
+    private Uni<Message<?>> sendAsync(Message<?> message) {
+        return Uni.createFrom().<Void> emitter(emitter -> {
+            try {
+                JmsOutgoing outgoing = toJmsMessage(message);
+                producer.setAsync(new CompletionListener() {
+                    @Override
+                    public void onCompletion(jakarta.jms.Message m) {
+                        emitter.complete(null);
+                    }
+
+                    @Override
+                    public void onException(jakarta.jms.Message m, Exception e) {
+                        emitter.fail(e);
+                    }
+                }).send(outgoing.destination, outgoing.message);
+            } catch (Exception e) {
+                emitter.fail(e instanceof JMSException ? new IllegalStateException(e) : e);
+            }
+        })
+                .runSubscriptionOn(sender())
+                .onItemOrFailure().transformToUni((x, failure) -> {
+                    if (failure != null) {
+                        log.unableToSend(failure);
+                        return Uni.createFrom().completionStage(message.nack(failure)).replaceWith(message);
+                    }
+                    return Uni.createFrom().completionStage(message.ack()).replaceWith(message);
+                });
+    }
+
+    private JmsOutgoing toJmsMessage(Message<?> message) throws JMSException {
         Object payload = message.getPayload();
 
         // If the payload is a JMS Message, send it as it is, ignoring metadata.
         if (payload instanceof jakarta.jms.Message) {
-            return dispatch(message, () -> producer.send(destination, (jakarta.jms.Message) payload));
+            return new JmsOutgoing((jakarta.jms.Message) payload, destination);
         }
 
-        try {
-            jakarta.jms.Message outgoing;
-            if (payload instanceof String || payload.getClass().isPrimitive() || isPrimitiveBoxed(payload.getClass())) {
-                outgoing = context.createTextMessage(payload.toString());
-                outgoing.setStringProperty("_classname", payload.getClass().getName());
-                outgoing.setJMSType(payload.getClass().getName());
-            } else if (payload.getClass().isArray() && payload.getClass().getComponentType().equals(Byte.TYPE)) {
-                BytesMessage o = context.createBytesMessage();
-                o.writeBytes((byte[]) payload);
-                outgoing = o;
-            } else {
-                outgoing = context.createTextMessage(jsonMapping.toJson(payload));
-                outgoing.setJMSType(payload.getClass().getName());
-                outgoing.setStringProperty("_classname", payload.getClass().getName());
-            }
+        jakarta.jms.Message outgoing;
+        if (payload instanceof String || payload.getClass().isPrimitive() || isPrimitiveBoxed(payload.getClass())) {
+            outgoing = context.createTextMessage(payload.toString());
+            outgoing.setStringProperty("_classname", payload.getClass().getName());
+            outgoing.setJMSType(payload.getClass().getName());
+        } else if (payload.getClass().isArray() && payload.getClass().getComponentType().equals(Byte.TYPE)) {
+            BytesMessage o = context.createBytesMessage();
+            o.writeBytes((byte[]) payload);
+            outgoing = o;
+        } else {
+            outgoing = context.createTextMessage(jsonMapping.toJson(payload));
+            outgoing.setJMSType(payload.getClass().getName());
+            outgoing.setStringProperty("_classname", payload.getClass().getName());
+        }
 
-            OutgoingJmsMessageMetadata metadata = message.getMetadata(OutgoingJmsMessageMetadata.class).orElse(null);
-            Destination actualDestination;
-            if (metadata != null) {
-                String correlationId = metadata.getCorrelationId();
-                Destination replyTo = metadata.getReplyTo();
-                Destination dest = metadata.getDestination();
-                int deliveryMode = metadata.getDeliveryMode();
-                String type = metadata.getType();
-                JmsProperties properties = metadata.getProperties();
-                if (correlationId != null) {
-                    outgoing.setJMSCorrelationID(correlationId);
-                }
-                if (replyTo != null) {
-                    outgoing.setJMSReplyTo(replyTo);
-                }
-                if (dest != null) {
-                    outgoing.setJMSDestination(dest);
-                }
-                if (deliveryMode != -1) {
-                    outgoing.setJMSDeliveryMode(deliveryMode);
-                }
-                if (type != null) {
-                    outgoing.setJMSType(type);
-                }
-                if (type != null) {
-                    outgoing.setJMSType(type);
-                }
+        OutgoingJmsMessageMetadata metadata = message.getMetadata(OutgoingJmsMessageMetadata.class).orElse(null);
+        Destination actualDestination;
+        if (metadata != null) {
+            String correlationId = metadata.getCorrelationId();
+            Destination replyTo = metadata.getReplyTo();
+            Destination dest = metadata.getDestination();
+            int deliveryMode = metadata.getDeliveryMode();
+            String type = metadata.getType();
+            JmsProperties properties = metadata.getProperties();
+            if (correlationId != null) {
+                outgoing.setJMSCorrelationID(correlationId);
+            }
+            if (replyTo != null) {
+                outgoing.setJMSReplyTo(replyTo);
+            }
+            if (dest != null) {
+                outgoing.setJMSDestination(dest);
+            }
+            if (deliveryMode != -1) {
+                outgoing.setJMSDeliveryMode(deliveryMode);
+            }
+            if (type != null) {
+                outgoing.setJMSType(type);
+            }
+            if (type != null) {
+                outgoing.setJMSType(type);
+            }
 
-                if (properties != null) {
-                    if (!(properties instanceof JmsPropertiesBuilder.OutgoingJmsProperties)) {
-                        throw ex.illegalStateUnableToMapProperties(properties.getClass().getName());
-                    }
-                    JmsPropertiesBuilder.OutgoingJmsProperties op = ((JmsPropertiesBuilder.OutgoingJmsProperties) properties);
-                    op.getProperties().forEach(p -> p.apply(outgoing));
+            if (properties != null) {
+                if (!(properties instanceof JmsPropertiesBuilder.OutgoingJmsProperties)) {
+                    throw ex.illegalStateUnableToMapProperties(properties.getClass().getName());
                 }
-                actualDestination = dest != null ? dest : this.destination;
-            } else {
-                actualDestination = this.destination;
+                JmsPropertiesBuilder.OutgoingJmsProperties op = ((JmsPropertiesBuilder.OutgoingJmsProperties) properties);
+                op.getProperties().forEach(p -> p.apply(outgoing));
             }
-
-            return dispatch(message, () -> producer.send(actualDestination, outgoing));
-        } catch (JMSException e) {
-            return Uni.createFrom().failure(new IllegalStateException(e));
+            actualDestination = dest != null ? dest : this.destination;
+        } else {
+            actualDestination = this.destination;
         }
+
+        return new JmsOutgoing(outgoing, actualDestination);
     }
 
     private boolean isPrimitiveBoxed(Class<?> c) {
@@ -174,4 +298,24 @@ class JmsSink {
         return sink;
     }
 
+    /**
+     * Stops the sending thread, if any.
+     */
+    synchronized void close() {
+        closed = true;
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    private static class JmsOutgoing {
+        private final jakarta.jms.Message message;
+        private final Destination destination;
+
+        private JmsOutgoing(jakarta.jms.Message message, Destination destination) {
+            this.message = message;
+            this.destination = destination;
+        }
+    }
+
 }
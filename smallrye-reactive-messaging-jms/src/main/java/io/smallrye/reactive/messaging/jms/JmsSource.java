@@ -3,10 +3,13 @@ package io.smallrye.reactive.messaging.jms;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsLogging.log;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -19,37 +22,73 @@ import jakarta.jms.Topic;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.reactive.messaging.jms.impl.ClassCache;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 
 class JmsSource {
 
     private final Flow.Publisher<IncomingJmsMessage<?>> source;
 
-    private final JmsPublisher publisher;
+    private final List<JmsPublisher> publishers = new ArrayList<>();
+    private final List<JmsReceiveLoop> loops = new ArrayList<>();
 
     JmsSource(JMSContext context, JmsConnectorIncomingConfiguration config, JsonMapping jsonMapping, Executor executor) {
+        this(context, config, jsonMapping, executor, new ClassCache());
+    }
+
+    JmsSource(JMSContext context, JmsConnectorIncomingConfiguration config, JsonMapping jsonMapping, Executor executor,
+            ClassCache classes) {
         String name = config.getDestination().orElseGet(config::getChannel);
         String selector = config.getSelector().orElse(null);
         boolean nolocal = config.getNoLocal();
         boolean broadcast = config.getBroadcast();
         boolean durable = config.getDurable();
+        int consumers = config.getConsumerCount();
+        if (consumers <= 0) {
+            throw ex.illegalArgumentInvalidConsumerCount(consumers);
+        }
 
         Destination destination = getDestination(context, name, config);
+        if (durable && !(destination instanceof Topic)) {
+            throw ex.illegalArgumentInvalidDestination();
+        }
 
-        JMSConsumer consumer;
-        if (durable) {
-            if (!(destination instanceof Topic)) {
-                throw ex.illegalArgumentInvalidDestination();
+        Multi<IncomingJmsMessage<?>> multi;
+        if (consumers == 1) {
+            JMSConsumer consumer;
+            if (durable) {
+                consumer = context.createDurableConsumer((Topic) destination, name, selector, nolocal);
+            } else {
+                consumer = context.createConsumer(destination, selector, nolocal);
             }
-            consumer = context.createDurableConsumer((Topic) destination, name, selector, nolocal);
+
+            JmsPublisher publisher = new JmsPublisher(consumer);
+            publishers.add(publisher);
+            multi = Multi.createFrom().publisher(publisher)
+                    .map(m -> new IncomingJmsMessage<>(m, executor, jsonMapping, classes));
         } else {
-            consumer = context.createConsumer(destination, selector, nolocal);
+            long timeout = config.getReceiveTimeout();
+            List<Multi<IncomingJmsMessage<?>>> streams = new ArrayList<>(consumers);
+            for (int i = 0; i < consumers; i++) {
+                // The first consumer uses the channel context, the others use their own session on the same connection
+                JMSContext session = i == 0 ? context : context.createContext(context.getSessionMode());
+                JMSConsumer consumer;
+                if (destination instanceof Topic) {
+                    // The consumers share the subscription, so each message is received by one of them
+                    consumer = durable ? session.createSharedDurableConsumer((Topic) destination, name, selector)
+                            : session.createSharedConsumer((Topic) destination, name, selector);
+                } else {
+                    consumer = session.createConsumer(destination, selector, nolocal);
+                }
+                JmsReceiveLoop loop = new JmsReceiveLoop(i == 0 ? null : session, consumer, timeout,
+                        config.getChannel() + "-" + i);
+                loops.add(loop);
+                // Messages are acknowledged from the thread of their session
+                streams.add(Multi.createFrom().publisher(loop)
+                        .map(m -> new IncomingJmsMessage<>(m, loop.executor, jsonMapping, classes)));
+            }
+            multi = Multi.createBy().merging().withConcurrency(consumers).streams(streams);
         }
-
-        publisher = new JmsPublisher(consumer);
-
-        Multi<IncomingJmsMessage<?>> multi = Multi.createFrom().publisher(publisher)
-                .map(m -> new IncomingJmsMessage<>(m, executor, jsonMapping));
         if (!broadcast) {
             source = multi;
         } else {
@@ -58,7 +97,8 @@ class JmsSource {
     }
 
     void close() {
-        publisher.close();
+        publishers.forEach(JmsPublisher::close);
+        loops.forEach(JmsReceiveLoop::close);
     }
 
     private Destination getDestination(JMSContext context, String name, JmsConnectorIncomingConfiguration config) {
@@ -173,4 +213,123 @@ class JmsSource {
             }
         }
     }
+
+    /**
+     * Receives the messages of a consumer, on a thread dedicated to its session, according to the downstream demand.
+     * <p>
+     * Each iteration of the loop receives the available messages with {@link JMSConsumer#receiveNoWait()}, up to the
+     * demand, and waits for a message at most {@code timeout} milliseconds if none is available. The iterations are
+     * scheduled on the session thread, so the acknowledgements, executed on the same thread, run between two
+     * iterations.
+     */
+    @SuppressWarnings("PublisherImplementation")
+    private static class JmsReceiveLoop implements Flow.Publisher<Message>, Flow.Subscription {
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicReference<Flow.Subscriber<? super Message>> downstream = new AtomicReference<>();
+        private final JMSContext session;
+        private final JMSConsumer consumer;
+        private final long timeout;
+        private final ExecutorService executor;
+        private volatile boolean closed;
+
+        /**
+         * @param session the session to close with the loop, {@code null} if the session is not owned by the loop
+         * @param consumer the consumer
+         * @param timeout the receive timeout in milliseconds
+         * @param name the name of the session thread
+         */
+        private JmsReceiveLoop(JMSContext session, JMSConsumer consumer, long timeout, String name) {
+            this.session = session;
+            this.consumer = consumer;
+            this.timeout = timeout;
+            this.executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "jms-" + name));
+        }
+
+        void close() {
+            closed = true;
+            Flow.Subscriber<? super Message> subscriber = downstream.getAndSet(null);
+            if (subscriber != null) {
+                subscriber.onComplete();
+            }
+            consumer.close();
+            if (session != null) {
+                session.close();
+            }
+            executor.shutdown();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Message> s) {
+            if (downstream.compareAndSet(null, s)) {
+                s.onSubscribe(this);
+            } else {
+                Subscriptions.fail(s, ex.illegalStateAlreadySubscriber());
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0 && !closed) {
+                Subscriptions.add(requests, n);
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::receive);
+            }
+        }
+
+        private void receive() {
+            try {
+                long requested = requests.get();
+                long received = 0;
+                Message message;
+                while (received < requested && !closed && (message = consumer.receiveNoWait()) != null) {
+                    emit(message);
+                    received++;
+                }
+                if (received == 0 && requested > 0 && !closed) {
+                    message = consumer.receive(timeout);
+                    if (message != null) {
+                        emit(message);
+                        received++;
+                    }
+                }
+                if (received > 0) {
+                    Subscriptions.produced(requests, received);
+                }
+            } catch (IllegalStateRuntimeException e) {
+                log.clientClosed();
+                return;
+            }
+            if (closed) {
+                return;
+            }
+            if (requests.get() > 0) {
+                executor.execute(this::receive);
+            } else {
+                scheduled.set(false);
+                // The demand may have been added after the check
+                if (requests.get() > 0) {
+                    schedule();
+                }
+            }
+        }
+
+        private void emit(Message message) {
+            Flow.Subscriber<? super Message> subscriber = downstream.get();
+            if (subscriber != null) {
+                subscriber.onNext(message);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            close();
+        }
+    }
 }
@@ -56,4 +56,13 @@ public interface JmsExceptions {
     @Message(id = 15613, value = "There is already a subscriber")
     IllegalStateException illegalStateAlreadySubscriber();
 
+    @Message(id = 15614, value = "Invalid consumer count: %d, the consumer count must be greater than 0")
+    IllegalArgumentException illegalArgumentInvalidConsumerCount(int count);
+
+    @Message(id = 15615, value = "Invalid batch size: %d, sending messages in batch requires the `SESSION_TRANSACTED` session mode")
+    IllegalArgumentException illegalArgumentBatchRequiresTransactedSession(int batchSize);
+
+    @Message(id = 15616, value = "Sending messages in batch and asynchronously cannot be combined, set either `batch-size` or `async-send`")
+    IllegalArgumentException illegalArgumentBatchAndAsyncSend();
+
 }
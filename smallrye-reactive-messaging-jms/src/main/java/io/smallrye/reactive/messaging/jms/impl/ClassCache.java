@@ -0,0 +1,62 @@
+package io.smallrye.reactive.messaging.jms.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the classes loaded from the class names carried by the JMS messages ({@code _classname} property or JMS
+ * type), so the class loaders are not queried for every message.
+ * <p>
+ * The cache is bounded: once {@code maxSize} classes are cached, the other classes are loaded on every lookup.
+ */
+public class ClassCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public ClassCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ClassCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Loads the class with the given name, from the thread context class loader, or from the class loader of the
+     * connector if the thread context class loader cannot load it.
+     *
+     * @param name the class name
+     * @return the class
+     * @throws ClassNotFoundException if the class cannot be loaded
+     */
+    public Class<?> load(String name) throws ClassNotFoundException {
+        Class<?> clazz = classes.get(name);
+        if (clazz != null) {
+            return clazz;
+        }
+        clazz = loadClass(name);
+        if (classes.size() < maxSize) {
+            classes.putIfAbsent(name, clazz);
+        }
+        return clazz;
+    }
+
+    int size() {
+        return classes.size();
+    }
+
+    private static Class<?> loadClass(String name) throws ClassNotFoundException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader != null) {
+            try {
+                return loader.loadClass(name);
+            } catch (ClassNotFoundException e) {
+                // Will try with the current class classloader
+            }
+        }
+        return ClassCache.class.getClassLoader().loadClass(name);
+    }
+}
@@ -3,11 +3,14 @@ package io.smallrye.reactive.messaging.jms;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.core.Is.is;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import jakarta.jms.*;
 
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 import io.smallrye.reactive.messaging.support.JmsTestBase;
@@ -254,6 +258,88 @@ public class JmsSinkTest extends JmsTestBase {
 
     }
 
+    @Test
+    public void testBatchSend() throws JMSException {
+        JMSContext transacted = factory.createContext(JMSContext.SESSION_TRANSACTED);
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-batch")
+                .with("batch-size", 5)
+                .with("channel-name", "jms");
+        JmsSink sink = new JmsSink(transacted, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-batch"));
+        AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().range(0, 12)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(sink.getSink());
+
+        await().until(() -> client.messages.size() == 12);
+        await().untilAtomic(acked, is(12));
+        assertThat(client.messages.get(11).getBody(String.class)).isEqualTo("11");
+        transacted.close();
+    }
+
+    @Test
+    public void testBatchSendRequiresTransactedSession() {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-batch")
+                .with("batch-size", 5)
+                .with("channel-name", "jms");
+        assertThatThrownBy(() -> new JmsSink(jms, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAsyncSend() throws JMSException {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-async")
+                .with("async-send", true)
+                .with("max-inflight-messages", 4)
+                .with("channel-name", "jms");
+        JmsSink sink = new JmsSink(jms, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-async"));
+        AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().range(0, 20)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(sink.getSink());
+
+        await().until(() -> client.messages.size() == 20);
+        await().untilAtomic(acked, is(20));
+        assertThat(client.messages.get(0).getBody(String.class)).isEqualTo("0");
+    }
+
+    @Test
+    public void testAsyncSendThreadIsCreatedLazilyAndStoppedOnClose() {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-async")
+                .with("async-send", true)
+                .with("channel-name", "jms-async");
+        JmsSink sink = new JmsSink(jms, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-async"));
+        assertThat(senderThreads()).isEmpty();
+
+        // Do not complete the stream, the thread is stopped by close()
+        Multi.createBy().concatenating().streams(Multi.createFrom().range(0, 3), Multi.createFrom().<Integer> nothing())
+                .map(Message::of)
+                .subscribe(sink.getSink());
+        await().until(() -> client.messages.size() == 3);
+        assertThat(senderThreads()).hasSize(1).allSatisfy(thread -> assertThat(thread.isDaemon()).isTrue());
+
+        sink.close();
+        await().until(() -> senderThreads().isEmpty());
+    }
+
+    private static List<Thread> senderThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("jms-sender-jms-async") && thread.isAlive())
+                .collect(Collectors.toList());
+    }
+
     private class MyJmsClient {
 
         private final List<jakarta.jms.Message> messages = new CopyOnWriteArrayList<>();
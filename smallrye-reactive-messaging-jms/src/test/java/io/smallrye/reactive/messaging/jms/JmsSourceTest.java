@@ -5,12 +5,16 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.notNullValue;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.jms.impl.ClassCache;
 import io.smallrye.reactive.messaging.support.JmsTestBase;
 import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
 
@@ -233,6 +238,104 @@ public class JmsSourceTest extends JmsTestBase {
                 .containsAll(IntStream.of(49).boxed().collect(Collectors.toList()));
     }
 
+    @Test
+    public void testJsonBytesMessageIsDecodedOnce() throws Exception {
+        AtomicInteger decoded = new AtomicInteger();
+        TestMapping mapping = new TestMapping() {
+            @Override
+            public <T> T fromJson(String str, Class<T> type) {
+                decoded.incrementAndGet();
+                return super.fromJson(str, type);
+            }
+        };
+        ClassCache classes = new ClassCache();
+        JmsSource source = new JmsSource(jms,
+                new JmsConnectorIncomingConfiguration(new MapBasedConfig().put("channel-name", "queue")),
+                mapping, null, classes);
+        List<IncomingJmsMessage<?>> list = new CopyOnWriteArrayList<>();
+        Multi.createFrom().publisher(source.getSource()).subscribe().with(list::add);
+
+        JMSProducer producer = jms.createProducer();
+        Queue q = jms.createQueue("queue");
+        for (int i = 0; i < 2; i++) {
+            BytesMessage message = jms.createBytesMessage();
+            message.writeBytes(("{\"name\":\"bob\",\"age\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+            message.setStringProperty("_classname", Person.class.getName());
+            producer.send(q, message);
+        }
+
+        await().until(() -> list.size() == 2);
+        IncomingJmsMessage<?> message = list.get(1);
+        Object payload = message.getPayload();
+        assertThat(payload).isInstanceOf(Person.class);
+        assertThat(((Person) payload).getName()).isEqualTo("bob");
+        assertThat(((Person) payload).getAge()).isEqualTo(1);
+        assertThat(message.getPayload()).isSameAs(payload);
+        assertThat(decoded).hasValue(1);
+        assertThat(classes.load(Person.class.getName())).isEqualTo(Person.class);
+    }
+
+    @Test
+    public void testConcurrentConsumption() {
+        JMSContext context = factory.createContext(JMSContext.CLIENT_ACKNOWLEDGE);
+        JmsSource source = new JmsSource(context,
+                new JmsConnectorIncomingConfiguration(new MapBasedConfig()
+                        .with("channel-name", "queue")
+                        .with("consumer-count", 3)),
+                null, null);
+        List<Integer> list = new CopyOnWriteArrayList<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Multi.createFrom().publisher(source.getSource())
+                .subscribe().with(m -> {
+                    threads.add(Thread.currentThread().getName());
+                    list.add((Integer) m.getPayload());
+                    m.ack();
+                });
+
+        JMSProducer producer = jms.createProducer();
+        Queue q = jms.createQueue("queue");
+        for (int i = 0; i < 100; i++) {
+            producer.send(q, i);
+        }
+
+        await().until(() -> list.size() == 100);
+        assertThat(list).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("jms-queue-"));
+
+        source.close();
+        context.close();
+
+        // All the messages have been acknowledged, so none is redelivered
+        try (JMSConsumer consumer = jms.createConsumer(q)) {
+            assertThat(consumer.receive(500)).isNull();
+        }
+    }
+
+    @Test
+    public void testConcurrentConsumptionOfTopic() {
+        JmsSource source = new JmsSource(jms,
+                new JmsConnectorIncomingConfiguration(new MapBasedConfig()
+                        .with("channel-name", "topic")
+                        .with("destination-type", "topic")
+                        .with("consumer-count", 2)),
+                null, null);
+        List<Integer> list = new CopyOnWriteArrayList<>();
+        Multi.createFrom().publisher(source.getSource())
+                .subscribe().with(m -> list.add((Integer) m.getPayload()));
+
+        JMSContext context = factory.createContext();
+        JMSProducer producer = context.createProducer();
+        Topic topic = context.createTopic("topic");
+        AtomicInteger sent = new AtomicInteger();
+        await().pollDelay(Duration.ofMillis(100)).until(() -> {
+            // The consumers share the subscription, so each message is received once
+            producer.send(topic, sent.getAndIncrement());
+            return list.size() >= 10;
+        });
+        assertThat(list).doesNotHaveDuplicates();
+        context.close();
+    }
+
     private WeldContainer prepare() {
         Map<String, Object> map = new HashMap<>();
         map.put("mp.messaging.incoming.jms.connector", JmsConnector.CONNECTOR_NAME);
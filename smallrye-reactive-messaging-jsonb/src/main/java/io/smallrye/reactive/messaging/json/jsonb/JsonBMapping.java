@@ -1,5 +1,11 @@
 package io.smallrye.reactive.messaging.json.jsonb;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -18,8 +24,46 @@ public class JsonBMapping implements JsonMapping {
         return jsonb.toJson(object);
     }
 
+    @Override
+    public byte[] toJsonBytes(Object object) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonb.toJson(object, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void toJson(Object object, OutputStream out) {
+        jsonb.toJson(object, out);
+    }
+
     @Override
     public <T> T fromJson(String str, Class<T> type) {
         return jsonb.fromJson(str, type);
     }
+
+    /**
+     * Deserialize an object from it's JSON string representation, supporting generic types such as
+     * {@code List<Person>}. The {@code byte[]} and {@link InputStream} variants follow.
+     */
+    public <T> T fromJson(String str, Type type) {
+        return jsonb.fromJson(str, type);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] bytes, Class<T> type) {
+        return jsonb.fromJson(new ByteArrayInputStream(bytes), type);
+    }
+
+    public <T> T fromJson(byte[] bytes, Type type) {
+        return jsonb.fromJson(new ByteArrayInputStream(bytes), type);
+    }
+
+    @Override
+    public <T> T fromJson(InputStream in, Class<T> type) {
+        return jsonb.fromJson(in, type);
+    }
+
+    public <T> T fromJson(InputStream in, Type type) {
+        return jsonb.fromJson(in, type);
+    }
 }
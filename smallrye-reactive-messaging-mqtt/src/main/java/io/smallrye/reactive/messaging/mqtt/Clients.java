@@ -1,14 +1,32 @@
 package io.smallrye.reactive.messaging.mqtt;
 
+import static io.smallrye.reactive.messaging.mqtt.i18n.MqttExceptions.ex;
 import static io.smallrye.reactive.messaging.mqtt.i18n.MqttLogging.log;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
+import io.netty.handler.codec.mqtt.MqttQoS;
 import io.smallrye.mutiny.Multi;
-import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.mqtt.internal.MqttTopicTrie;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSession;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSessionOptions;
+import io.smallrye.reactive.messaging.mqtt.session.SessionState;
 import io.vertx.core.Future;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.mqtt.messages.MqttPublishMessage;
@@ -16,13 +34,28 @@ import io.vertx.mutiny.mqtt.messages.MqttPublishMessage;
 public class Clients {
 
     private static final Map<String, ClientHolder> clients = new ConcurrentHashMap<>();
+    private static final Map<String, ClientPool> pools = new ConcurrentHashMap<>();
 
     private Clients() {
         // avoid direct instantiation.
     }
 
     static ClientHolder getHolder(Vertx vertx, MqttClientSessionOptions options) {
+        return getHolder(vertx, options, id(options));
+    }
 
+    private static ClientHolder getHolder(Vertx vertx, MqttClientSessionOptions options, String id) {
+        return clients.computeIfAbsent(id, key -> {
+            log.infof("Create MQTT Client for %s.", id);
+            // The channels sharing the client choose when their messages are acknowledged
+            MqttClientSessionOptions copy = new MqttClientSessionOptions(options);
+            copy.setAutoAck(false);
+            MqttClientSession client = MqttClientSession.create(vertx.getDelegate(), copy);
+            return new ClientHolder(client, false);
+        });
+    }
+
+    private static String id(MqttClientSessionOptions options) {
         String host = options.getHostname();
         int port = options.getPort();
         String clientId = options.getClientId();
@@ -30,15 +63,43 @@ public class Clients {
         String username = options.getUsername();
         String password = options.getPassword();
 
-        String id = username + ":" + password + "@"
+        return username + ":" + password + "@"
                 + host + ":"
                 + port
                 + "<" + (server == null ? "" : server)
                 + ">-[" + (clientId != null ? clientId : "") + "]";
-        return clients.computeIfAbsent(id, key -> {
-            log.infof("Create MQTT Client for %s.", id);
-            MqttClientSession client = MqttClientSession.create(vertx.getDelegate(), options);
-            return new ClientHolder(client);
+    }
+
+    /**
+     * Gets a pool of {@code size} clients for the given options.
+     * <p>
+     * Each client of the pool uses its own connection, with the configured client id suffixed with the index of the
+     * client in the pool. Like single clients, pools are shared by the channels using the same options.
+     * A pool of size 1 holds the client returned by {@link #getHolder(Vertx, MqttClientSessionOptions)}.
+     *
+     * @param vertx the Vert.x instance
+     * @param options the client options
+     * @param size the number of clients
+     * @return the pool
+     */
+    static ClientPool getPool(Vertx vertx, MqttClientSessionOptions options, int size) {
+        if (size <= 0) {
+            throw ex.illegalArgumentInvalidPoolSize(size);
+        }
+        String id = id(options) + "-pool/" + size;
+        if (size == 1) {
+            return pools.computeIfAbsent(id, key -> new ClientPool(List.of(getHolder(vertx, options))));
+        }
+        return pools.computeIfAbsent(id, key -> {
+            List<ClientHolder> holders = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                MqttClientSessionOptions copy = new MqttClientSessionOptions(options);
+                if (options.getClientId() != null) {
+                    copy.setClientId(options.getClientId() + "-" + i);
+                }
+                holders.add(getHolder(vertx, copy, id + "-" + i));
+            }
+            return new ClientPool(holders);
         });
     }
 
@@ -48,17 +109,264 @@ public class Clients {
     public static void clear() {
         clients.values().forEach(ClientHolder::close);
         clients.clear();
+        pools.clear();
+    }
+
+    /**
+     * A set of clients, each one with its own connection to the broker.
+     * <p>
+     * Each client has its own publication window: {@link #acquire(int, int)} only hands out a client with fewer
+     * publications in flight than the requested maximum, whatever the channel they come from.
+     */
+    public static class ClientPool {
+
+        private final List<ClientHolder> holders;
+        private final AtomicInteger next = new AtomicInteger();
+        /**
+         * The publications waiting for a free slot, guarded by the pool.
+         */
+        private final Deque<SlotRequest> waiting = new ArrayDeque<>();
+
+        ClientPool(List<ClientHolder> holders) {
+            this.holders = holders;
+        }
+
+        public List<ClientHolder> getHolders() {
+            return holders;
+        }
+
+        /**
+         * Used to spread the channels over the pool, this counter is shared by all the channels using the pool.
+         *
+         * @return the next client of the pool, in round-robin order
+         */
+        public ClientHolder next() {
+            if (holders.size() == 1) {
+                return holders.get(0);
+            }
+            return holders.get(Math.floorMod(next.getAndIncrement(), holders.size()));
+        }
+
+        public int size() {
+            return holders.size();
+        }
+
+        /**
+         * Reserves a publication slot on a client of the pool with fewer than {@code maxInflight} publications in
+         * flight. The clients are tried in turn from the given index. If none has a free slot, the returned
+         * {@code Uni} waits for a slot to be released.
+         * <p>
+         * The slot must be released with {@link #release(ClientHolder)} once the publication completes.
+         *
+         * @param start the index of the first client to try
+         * @param maxInflight the maximum number of publications in flight on a client
+         * @return the client on which the slot has been reserved
+         */
+        public Uni<ClientHolder> acquire(int start, int maxInflight) {
+            return Uni.createFrom().deferred(() -> {
+                SlotRequest request = new SlotRequest(maxInflight);
+                return Uni.createFrom().<ClientHolder> emitter(emitter -> {
+                    emitter.onTermination(() -> cancel(request));
+                    ClientHolder holder;
+                    synchronized (this) {
+                        holder = reserve(start, maxInflight);
+                        if (holder == null) {
+                            request.emitter = emitter;
+                            waiting.add(request);
+                        } else {
+                            request.granted = holder;
+                        }
+                    }
+                    if (holder != null) {
+                        emitter.complete(holder);
+                    }
+                }).onItem().invoke(() -> request.consumed = true);
+            });
+        }
+
+        /**
+         * Releases a publication slot reserved with {@link #acquire(int, int)}, handing it to a waiting publication if
+         * any.
+         *
+         * @param holder the client on which the slot has been reserved
+         */
+        public void release(ClientHolder holder) {
+            SlotRequest served = null;
+            synchronized (this) {
+                holder.inflight--;
+                for (Iterator<SlotRequest> it = waiting.iterator(); it.hasNext();) {
+                    SlotRequest request = it.next();
+                    if (holder.inflight < request.maxInflight) {
+                        it.remove();
+                        holder.inflight++;
+                        request.granted = holder;
+                        served = request;
+                        break;
+                    }
+                }
+            }
+            if (served != null) {
+                served.emitter.complete(holder);
+            }
+        }
+
+        private ClientHolder reserve(int start, int maxInflight) {
+            for (int i = 0; i < holders.size(); i++) {
+                ClientHolder holder = holders.get(Math.floorMod(start + i, holders.size()));
+                if (holder.inflight < maxInflight) {
+                    holder.inflight++;
+                    return holder;
+                }
+            }
+            return null;
+        }
+
+        private void cancel(SlotRequest request) {
+            ClientHolder granted;
+            synchronized (this) {
+                waiting.remove(request);
+                // A slot granted to a cancelled request has never been used
+                granted = request.consumed ? null : request.granted;
+            }
+            if (granted != null) {
+                release(granted);
+            }
+        }
+
+        public Future<Void> start() {
+            return Future.all(holders.stream().map(ClientHolder::start).collect(Collectors.toList())).mapEmpty();
+        }
+
+        public Future<Void> close() {
+            return Future.all(holders.stream().map(ClientHolder::close).collect(Collectors.toList())).mapEmpty();
+        }
+
+        /**
+         * @return whether all the clients of the pool are connected
+         */
+        public boolean isConnected() {
+            for (ClientHolder holder : holders) {
+                if (!holder.getClient().isConnected()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the indexes of the clients of the pool which are not connected
+         */
+        public List<Integer> getDisconnected() {
+            List<Integer> disconnected = new ArrayList<>();
+            for (int i = 0; i < holders.size(); i++) {
+                if (!holders.get(i).getClient().isConnected()) {
+                    disconnected.add(i);
+                }
+            }
+            return disconnected;
+        }
     }
 
     public static class ClientHolder {
 
+        private static final Runnable NO_ACK = () -> {
+        };
+
         private final MqttClientSession client;
-        private final BroadcastProcessor<MqttPublishMessage> messages;
+        private final MqttTopicTrie<StreamSubscriber<?>> subscribers = new MqttTopicTrie<>();
+        /**
+         * The QoS 1 and 2 messages waiting to be acknowledged to the broker, in reception order.
+         * Only used when the messages are not acknowledged automatically by the client.
+         */
+        private final Deque<PendingAck> pendingAcks = new ArrayDeque<>();
+        /**
+         * The number of publications in flight on the connection, guarded by the {@link ClientPool} of the client.
+         */
+        private int inflight;
 
         public ClientHolder(MqttClientSession client) {
+            this(client, true);
+        }
+
+        public ClientHolder(MqttClientSession client, boolean autoAck) {
             this.client = client;
-            messages = BroadcastProcessor.create();
-            client.messageHandler(m -> messages.onNext(MqttPublishMessage.newInstance(m)));
+            client.messageHandler(m -> {
+                MqttPublishMessage message = MqttPublishMessage.newInstance(m);
+                if (autoAck || m.qosLevel() == MqttQoS.AT_MOST_ONCE) {
+                    subscribers.match(m.topicName(), subscriber -> subscriber.dispatch(message, NO_ACK));
+                } else {
+                    dispatchWithDeferredAck(message);
+                }
+            });
+            if (!autoAck) {
+                client.sessionStateHandler(event -> {
+                    if (event.getSessionState() != SessionState.CONNECTED) {
+                        // The broker redelivers the unacknowledged messages on the next connection
+                        synchronized (pendingAcks) {
+                            pendingAcks.clear();
+                        }
+                    }
+                });
+            }
+        }
+
+        private void dispatchWithDeferredAck(MqttPublishMessage message) {
+            List<StreamSubscriber<?>> matching = new ArrayList<>(1);
+            subscribers.match(message.topicName(), matching::add);
+            PendingAck pending = new PendingAck(message);
+            synchronized (pendingAcks) {
+                for (StreamSubscriber<?> subscriber : matching) {
+                    // A terminated stream has already released its messages
+                    if (!subscriber.terminated) {
+                        pending.remaining.add(subscriber);
+                    }
+                }
+                pendingAcks.add(pending);
+            }
+            for (StreamSubscriber<?> subscriber : matching) {
+                subscriber.dispatch(message, () -> acknowledge(pending, subscriber));
+            }
+            // The message may not be waiting for any stream
+            acknowledge(pending, null);
+        }
+
+        /**
+         * Records the acknowledgement of a message by a stream, when the client does not acknowledge messages
+         * automatically.
+         * <p>
+         * A QoS 1 or 2 message is acknowledged to the broker once all the streams which received it have acknowledged it.
+         * As required by the MQTT specification, acknowledgements are sent to the broker in the order the messages were
+         * received, so an acknowledged message waits for the previous messages to be acknowledged.
+         */
+        private void acknowledge(PendingAck pending, StreamSubscriber<?> subscriber) {
+            synchronized (pendingAcks) {
+                if (subscriber != null) {
+                    pending.remaining.remove(subscriber);
+                }
+                drain();
+            }
+        }
+
+        /**
+         * Releases the messages not acknowledged yet by a terminated stream, so they do not hold back the
+         * acknowledgements of the next messages.
+         */
+        private void release(StreamSubscriber<?> subscriber) {
+            synchronized (pendingAcks) {
+                subscriber.terminated = true;
+                for (PendingAck pending : pendingAcks) {
+                    pending.remaining.remove(subscriber);
+                }
+                drain();
+            }
+        }
+
+        private void drain() {
+            PendingAck head;
+            while ((head = pendingAcks.peek()) != null && head.remaining.isEmpty()) {
+                pendingAcks.poll();
+                head.message.ack();
+            }
         }
 
         public Future<Void> start() {
@@ -69,8 +377,28 @@ public class Clients {
             return client.stop();
         }
 
-        public Multi<MqttPublishMessage> stream() {
-            return messages;
+        /**
+         * Creates a stream of the received messages matching the given topic filter.
+         * Messages are dispatched to the streams of the matching filters only, without evaluating the other filters.
+         * <p>
+         * Each message is mapped with the given function, which also receives the acknowledgement of the message by
+         * the stream. When the client does not acknowledge messages automatically, a QoS 1 or 2 message is acknowledged
+         * to the broker once all the streams which received it have acknowledged it, or have terminated. Otherwise,
+         * the acknowledgement does nothing.
+         *
+         * @param topicFilter the topic filter, which can contain wildcards or be a shared subscription
+         * @param mapper the function mapping a message and its acknowledgement to an item of the stream
+         * @return the stream of items, which does not handle back-pressure
+         */
+        public <T> Multi<T> stream(String topicFilter, BiFunction<MqttPublishMessage, Runnable, T> mapper) {
+            return Multi.createFrom().emitter(emitter -> {
+                StreamSubscriber<T> subscriber = new StreamSubscriber<>(emitter, mapper);
+                subscribers.add(topicFilter, subscriber);
+                emitter.onTermination(() -> {
+                    subscribers.remove(topicFilter, subscriber);
+                    release(subscriber);
+                });
+            }, BackPressureStrategy.IGNORE);
         }
 
         public MqttClientSession getClient() {
@@ -78,4 +406,45 @@ public class Clients {
         }
     }
 
+    private static class StreamSubscriber<T> {
+        private final MultiEmitter<? super T> emitter;
+        private final BiFunction<MqttPublishMessage, Runnable, T> mapper;
+        /**
+         * Guarded by the pending acknowledgements of the client.
+         */
+        private boolean terminated;
+
+        private StreamSubscriber(MultiEmitter<? super T> emitter, BiFunction<MqttPublishMessage, Runnable, T> mapper) {
+            this.emitter = emitter;
+            this.mapper = mapper;
+        }
+
+        private void dispatch(MqttPublishMessage message, Runnable ack) {
+            emitter.emit(mapper.apply(message, ack));
+        }
+    }
+
+    private static class SlotRequest {
+        private final int maxInflight;
+        private UniEmitter<? super ClientHolder> emitter;
+        private ClientHolder granted;
+        private volatile boolean consumed;
+
+        private SlotRequest(int maxInflight) {
+            this.maxInflight = maxInflight;
+        }
+    }
+
+    private static class PendingAck {
+        private final MqttPublishMessage message;
+        /**
+         * The streams which have not acknowledged the message yet.
+         */
+        private final Set<StreamSubscriber<?>> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private PendingAck(MqttPublishMessage message) {
+            this.message = message;
+        }
+    }
+
 }
@@ -61,7 +61,11 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "broadcast", description = "Whether or not the messages should be dispatched to multiple consumers", type = "boolean", direction = INCOMING, defaultValue = "false")
 @ConnectorAttribute(name = "failure-strategy", type = "string", direction = INCOMING, description = "Specify the failure strategy to apply when a message produced from a MQTT message is nacked. Values can be `fail` (default), or `ignore`", defaultValue = "fail")
 @ConnectorAttribute(name = "merge", direction = OUTGOING, description = "Whether the connector should allow multiple upstreams", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "pool-size", type = "int", direction = INCOMING_AND_OUTGOING, description = "The number of MQTT connections opened for the channel, each one with its own client session. The configured `client-id` is suffixed with the index of the connection. Outgoing channels spread the messages over the connections, incoming channels subscribe on all the connections when `pool-shared-group` is set, or on one of them otherwise", defaultValue = "1")
+@ConnectorAttribute(name = "pool-shared-group", type = "string", direction = INCOMING, description = "The shared subscription group used to subscribe on all the connections of the pool, so the broker spreads the messages over the connections. Requires a broker supporting shared subscriptions (`$share/<group>/<topic>`)")
+@ConnectorAttribute(name = "windowed-publish", direction = OUTGOING, description = "Whether messages are published without waiting for the previous publications to complete. Up to `max-inflight-queue` messages are published and wait for their acknowledgement (PUBACK for QoS 1, PUBCOMP for QoS 2) at the same time. A message is acknowledged once the broker acknowledged its publication", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "buffer-size", direction = INCOMING, description = "The size buffer of incoming messages waiting to be processed", type = "int", defaultValue = "128")
+@ConnectorAttribute(name = "deferred-ack", direction = INCOMING, description = "Whether QoS 1 and 2 messages are acknowledged to the broker (PUBACK / PUBREC) only once they are acknowledged by the application, instead of on reception. The broker stops sending QoS 1 and 2 messages when its in-flight window is full, so the buffer does not overflow as long as `buffer-size` is larger than this window", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "unsubscribe-on-disconnection", direction = INCOMING_AND_OUTGOING, description = "This flag restore the old behavior to unsubscribe from the broken on disconnection", type = "boolean", defaultValue = "false")
 public class MqttConnector implements InboundConnector, OutboundConnector, HealthReporter {
 
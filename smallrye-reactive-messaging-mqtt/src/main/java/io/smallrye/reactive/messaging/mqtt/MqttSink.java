@@ -2,9 +2,11 @@ package io.smallrye.reactive.messaging.mqtt;
 
 import static io.smallrye.reactive.messaging.mqtt.i18n.MqttLogging.log;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.inject.Instance;
@@ -17,6 +19,7 @@ import io.smallrye.mutiny.vertx.AsyncResultUni;
 import io.smallrye.reactive.messaging.OutgoingMessageMetadata;
 import io.smallrye.reactive.messaging.health.HealthReport.HealthReportBuilder;
 import io.smallrye.reactive.messaging.mqtt.internal.MqttHelpers;
+import io.smallrye.reactive.messaging.mqtt.internal.MqttPublishMetrics;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSession;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSessionOptions;
 import io.smallrye.reactive.messaging.providers.helpers.MultiUtils;
@@ -32,12 +35,19 @@ public class MqttSink {
     private final String topic;
     private final int qos;
     private final boolean healthEnabled;
+    private final boolean windowed;
+    private final MqttPublishMetrics metrics;
+    private final int maxInflightQueue;
+    /**
+     * The index of the connection of the pool tried first by the next publication of the channel.
+     */
+    private final AtomicInteger next = new AtomicInteger();
 
     private final Flow.Subscriber<? extends Message<?>> sink;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean alive = new AtomicBoolean();
-    private final AtomicReference<Clients.ClientHolder> reference = new AtomicReference<>();
+    private final AtomicReference<Clients.ClientPool> reference = new AtomicReference<>();
 
     public MqttSink(Vertx vertx, MqttConnectorOutgoingConfiguration config,
             Instance<MqttClientSessionOptions> instances) {
@@ -48,13 +58,20 @@ public class MqttSink {
         topic = config.getTopic().orElse(channel);
         qos = config.getQos();
         healthEnabled = config.getHealthEnabled();
+        windowed = config.getWindowedPublish();
+        // Only the windowed publication exposes its metrics, the sink removes them when it terminates
+        metrics = new MqttPublishMetrics(channel, windowed);
+        int poolSize = config.getPoolSize();
+        maxInflightQueue = config.getMaxInflightQueue();
+        // Each connection of the pool has its own in-flight window
+        int maxInflight = maxInflightQueue * poolSize;
 
         sink = MultiUtils.via(m -> m.onSubscription()
                 .call(() -> {
-                    Clients.ClientHolder client = reference.get();
-                    if (client == null) {
-                        client = Clients.getHolder(vertx, options);
-                        reference.set(client);
+                    Clients.ClientPool pool = reference.get();
+                    if (pool == null) {
+                        pool = Clients.getPool(vertx, options, poolSize);
+                        reference.set(pool);
                     }
                     return AsyncResultUni.<Void> toUni(h -> reference.get().start().onComplete(h))
                             .onItem().invoke(() -> {
@@ -62,9 +79,12 @@ public class MqttSink {
                                 alive.set(true);
                             });
                 })
-                .onItem().transformToUniAndConcatenate(this::send)
+                .plug(multi -> windowed
+                        // Keep up to max-inflight-queue publications waiting for their acknowledgement
+                        ? multi.onItem().<Message<?>> transformToUni(this::send).merge(maxInflight)
+                        : multi.onItem().<Message<?>> transformToUniAndConcatenate(this::send))
                 .onCompletion().invoke(() -> {
-                    Clients.ClientHolder c = reference.getAndSet(null);
+                    Clients.ClientPool c = reference.getAndSet(null);
                     if (c != null)
                         c.close();
                     alive.set(false);
@@ -72,11 +92,11 @@ public class MqttSink {
                 .onFailure().invoke(e -> {
                     alive.set(false);
                     log.errorWhileSendingMessageToBroker(e);
-                }));
+                })
+                .onTermination().invoke(metrics::close));
     }
 
     private Uni<? extends Message<?>> send(Message<?> msg) {
-        final MqttClientSession client = reference.get().getClient();
         final String actualTopicToBeUsed;
         final MqttQoS actualQoS;
         final boolean isRetain;
@@ -98,10 +118,28 @@ public class MqttSink {
             return Uni.createFrom().item(msg);
         }
 
-        return AsyncResultUni
-                .<Integer> toUni(h -> client
-                        .publish(actualTopicToBeUsed, convert(msg.getPayload()).getDelegate(), actualQoS, false, isRetain)
-                        .onComplete(h))
+        io.vertx.core.buffer.Buffer payload = convert(msg.getPayload()).getDelegate();
+        Clients.ClientPool pool = reference.get();
+        // Wait for a connection with a free slot in its in-flight window
+        return pool.acquire(next.getAndIncrement(), maxInflightQueue)
+                .onItem().transformToUni(holder -> {
+                    MqttClientSession client = holder.getClient();
+                    long start = metrics.started();
+                    return AsyncResultUni
+                            .<Integer> toUni(h -> {
+                                if (windowed) {
+                                    client.publishAndAwaitCompletion(actualTopicToBeUsed, payload, actualQoS, false,
+                                            isRetain).onComplete(h);
+                                } else {
+                                    client.publish(actualTopicToBeUsed, payload, actualQoS, false, isRetain)
+                                            .onComplete(h);
+                                }
+                            })
+                            .onTermination().invoke(() -> {
+                                pool.release(holder);
+                                metrics.completed(start);
+                            });
+                })
                 .onItemOrFailure().transformToUni((s, f) -> {
                     if (f != null) {
                         return Uni.createFrom().completionStage(msg.nack(f).thenApply(x -> msg));
@@ -142,8 +180,12 @@ public class MqttSink {
         return sink;
     }
 
+    public MqttPublishMetrics getPublishMetrics() {
+        return metrics;
+    }
+
     private boolean isConnected() {
-        return reference.get() != null && reference.get().getClient().isConnected();
+        return reference.get() != null && reference.get().isConnected();
     }
 
     public void isStarted(HealthReportBuilder builder) {
@@ -152,8 +194,16 @@ public class MqttSink {
     }
 
     public void isReady(HealthReportBuilder builder) {
-        if (healthEnabled)
-            builder.add(channel, isConnected());
+        if (healthEnabled) {
+            Clients.ClientPool pool = reference.get();
+            if (pool == null || pool.size() == 1) {
+                builder.add(channel, isConnected());
+            } else {
+                List<Integer> disconnected = pool.getDisconnected();
+                builder.add(channel, disconnected.isEmpty(),
+                        disconnected.isEmpty() ? null : "Disconnected pool connections: " + disconnected);
+            }
+        }
     }
 
     public void isAlive(HealthReportBuilder builder) {
@@ -3,16 +3,20 @@ package io.smallrye.reactive.messaging.mqtt;
 import static io.smallrye.reactive.messaging.mqtt.i18n.MqttExceptions.ex;
 import static io.smallrye.reactive.messaging.mqtt.i18n.MqttLogging.log;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.regex.Pattern;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.inject.Instance;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.health.HealthReport.HealthReportBuilder;
 import io.smallrye.reactive.messaging.mqtt.internal.MqttHelpers;
-import io.smallrye.reactive.messaging.mqtt.internal.MqttTopicHelper;
+import io.smallrye.reactive.messaging.mqtt.session.MqttClientSession;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSessionOptions;
 import io.smallrye.reactive.messaging.mqtt.session.RequestedQoS;
 import io.smallrye.reactive.messaging.providers.helpers.VertxContext;
@@ -20,22 +24,27 @@ import io.smallrye.reactive.messaging.providers.impl.ConcurrencyConnectorConfig;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mutiny.core.Context;
 import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.mqtt.messages.MqttPublishMessage;
 
 public class MqttSource {
 
     private final Flow.Publisher<ReceivingMqttMessage> source;
     private final AtomicBoolean ready = new AtomicBoolean();
     private final String channel;
-    private final Pattern pattern;
     private final boolean healthEnabled;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean alive = new AtomicBoolean();
-    private final Clients.ClientHolder holder;
+    private final Clients.ClientPool pool;
+    /**
+     * The clients on which the topic is subscribed.
+     */
+    private final List<MqttClientSession> subscribed;
 
     public MqttSource(Vertx vertx, MqttConnectorIncomingConfiguration config,
             Instance<MqttClientSessionOptions> instances) {
         MqttClientSessionOptions options = MqttHelpers.createClientOptions(config, instances);
+        boolean deferredAck = config.getDeferredAck();
 
         channel = config.getChannel();
         String topic = config.getTopic().orElse(channel);
@@ -46,33 +55,47 @@ public class MqttSource {
         MqttFailureHandler.Strategy strategy = MqttFailureHandler.Strategy.from(config.getFailureStrategy());
         MqttFailureHandler onNack = createFailureHandler(strategy, config.getChannel());
 
-        if (topic.contains("#") || topic.contains("+")) {
-            String replace = MqttTopicHelper.escapeTopicSpecialWord(MqttHelpers.rebuildMatchesWithSharedSubscription(topic))
-                    .replace("+", "[^/]+")
-                    .replace("#", ".+");
-            pattern = Pattern.compile(replace);
-        } else {
-            pattern = null;
-        }
         final Context root = ConcurrencyConnectorConfig.getConcurrency(config.config).filter(i -> i > 1)
                 .map(__ -> Context.newInstance(((VertxInternal) vertx.getDelegate()).createEventLoopContext()))
                 .orElse(null);
-        holder = Clients.getHolder(vertx, options);
-        holder.start().onSuccess(ignore -> started.set(true));
-        holder.getClient()
-                .subscribe(topic, RequestedQoS.valueOf(qos))
-                .onFailure(outcome -> log.info("Subscription failed!"))
-                .onSuccess(outcome -> {
-                    log.info("Subscription success on topic " + topic + ", Max QoS " + outcome + ".");
-                    alive.set(true);
-                });
+        pool = Clients.getPool(vertx, options, config.getPoolSize());
+        Optional<String> group = config.getPoolSharedGroup().filter(g -> pool.size() > 1);
+        // With a shared subscription, the broker spreads the messages over the connections of the pool,
+        // otherwise the subscriptions of the channels are spread over the connections
+        List<Clients.ClientHolder> holders = group.isPresent() ? pool.getHolders() : List.of(pool.next());
+        String filter = group.filter(g -> !topic.startsWith("$share/"))
+                .map(g -> "$share/" + g + "/" + topic)
+                .orElse(topic);
+        subscribed = holders.stream().map(Clients.ClientHolder::getClient).collect(Collectors.toList());
+
+        pool.start().onSuccess(ignore -> started.set(true));
+        for (Clients.ClientHolder holder : holders) {
+            holder.getClient()
+                    .subscribe(filter, RequestedQoS.valueOf(qos))
+                    .onFailure(outcome -> log.info("Subscription failed!"))
+                    .onSuccess(outcome -> {
+                        log.info("Subscription success on topic " + filter + ", Max QoS " + outcome + ".");
+                        alive.set(true);
+                    });
+        }
 
-        this.source = holder.stream()
-                .select().where(m -> MqttTopicHelper.matches(topic, pattern, m))
+        BiFunction<MqttPublishMessage, Runnable, ReceivingMqttMessage> mapper;
+        if (deferredAck) {
+            mapper = (m, ack) -> new ReceivingMqttMessage(m, onNack, ack);
+        } else {
+            mapper = (m, ack) -> {
+                ack.run();
+                return new ReceivingMqttMessage(m, onNack);
+            };
+        }
+        this.source = Multi.createBy().merging().streams(holders.stream()
+                .map(holder -> holder.stream(filter, mapper))
+                .collect(Collectors.toList()))
                 .plug(m -> (root != null) ? m.emitOn(c -> VertxContext.runOnContext(root.getDelegate(), c)) : m)
-                .onItem().transform(m -> new ReceivingMqttMessage(m, onNack))
                 .stage(multi -> {
-                    if (broadcast)
+                    // With deferred acknowledgements, each subscriber gets its own streams from the clients,
+                    // so a message is acknowledged to the broker once all the subscribers have acknowledged it
+                    if (broadcast && !deferredAck)
                         return multi.broadcast().toAllSubscribers();
 
                     return multi;
@@ -81,10 +104,12 @@ public class MqttSource {
                 .onCancellation().call(() -> {
                     alive.set(false);
                     if (config.getUnsubscribeOnDisconnection())
-                        return Uni
-                                .createFrom()
-                                .completionStage(holder.getClient()
-                                        .unsubscribe(topic).toCompletionStage());
+                        return Uni.join().all(subscribed.stream()
+                                .map(client -> Uni.createFrom()
+                                        .completionStage(client.unsubscribe(filter).toCompletionStage()))
+                                .collect(Collectors.toList()))
+                                .andCollectFailures()
+                                .replaceWithVoid();
                     else
                         return Uni.createFrom().voidItem();
                 })
@@ -115,8 +140,15 @@ public class MqttSource {
     }
 
     public void isReady(HealthReportBuilder builder) {
-        if (healthEnabled)
-            builder.add(channel, holder.getClient().isConnected());
+        if (healthEnabled) {
+            if (subscribed.size() == 1) {
+                builder.add(channel, subscribed.get(0).isConnected());
+            } else {
+                List<Integer> disconnected = pool.getDisconnected();
+                builder.add(channel, disconnected.isEmpty(),
+                        disconnected.isEmpty() ? null : "Disconnected pool connections: " + disconnected);
+            }
+        }
     }
 
     public void isAlive(HealthReportBuilder builder) {
@@ -2,8 +2,11 @@ package io.smallrye.reactive.messaging.mqtt;
 
 import static io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage.captureContextMetadata;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.reactive.messaging.Metadata;
 
@@ -15,10 +18,17 @@ public class ReceivingMqttMessage implements MqttMessage<byte[]> {
     final MqttFailureHandler onNack;
     final Metadata metadata;
     private final ReceivingMqttMessageMetadata receivingMetadata;
+    private final Runnable onAck;
+    private final AtomicBoolean acknowledged = new AtomicBoolean();
 
     ReceivingMqttMessage(MqttPublishMessage message, MqttFailureHandler onNack) {
+        this(message, onNack, null);
+    }
+
+    ReceivingMqttMessage(MqttPublishMessage message, MqttFailureHandler onNack, Runnable onAck) {
         this.message = message;
         this.onNack = onNack;
+        this.onAck = onAck;
         this.receivingMetadata = new ReceivingMqttMessageMetadata(this.message);
         this.metadata = captureContextMetadata(receivingMetadata);
     }
@@ -58,9 +68,33 @@ public class ReceivingMqttMessage implements MqttMessage<byte[]> {
         return receivingMetadata.getTopic();
     }
 
+    @Override
+    public CompletionStage<Void> ack(Metadata metadata) {
+        acknowledge();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Acknowledges the message to the client, at most once.
+     */
+    private void acknowledge() {
+        if (onAck != null && acknowledged.compareAndSet(false, true)) {
+            onAck.run();
+        }
+    }
+
+    @Override
+    public Function<Metadata, CompletionStage<Void>> getAckWithMetadata() {
+        return this::ack;
+    }
+
     @Override
     public CompletionStage<Void> nack(Throwable reason, Metadata metadata) {
-        return this.onNack.handle(reason);
+        if (onAck == null) {
+            return this.onNack.handle(reason);
+        }
+        // The message is acknowledged to the broker if the failure is ignored
+        return this.onNack.handle(reason).thenRun(this::acknowledge);
     }
 
     @Override
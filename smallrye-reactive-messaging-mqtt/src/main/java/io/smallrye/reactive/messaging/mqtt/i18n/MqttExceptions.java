@@ -22,4 +22,10 @@ public interface MqttExceptions {
     @Message(id = 17002, value = "Cannot find a %s bean identified with %s")
     IllegalStateException illegalStateFindingBean(String className, String beanName);
 
+    @Message(id = 17003, value = "Invalid pool size: %d, the pool size must be greater than 0")
+    IllegalArgumentException illegalArgumentInvalidPoolSize(int size);
+
+    @Message(id = 17004, value = "The MQTT client session %s does not support awaiting the completion of publications")
+    UnsupportedOperationException unsupportedPublishCompletion(String session);
+
 }
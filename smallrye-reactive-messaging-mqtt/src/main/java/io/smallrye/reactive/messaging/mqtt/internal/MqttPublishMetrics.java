@@ -0,0 +1,130 @@
+package io.smallrye.reactive.messaging.mqtt.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Tracks the publications of a channel waiting for their acknowledgement, and their latency.
+ * <p>
+ * When requested and Micrometer is available, the metrics are also registered in the Micrometer global registry, as
+ * the {@code mqtt.publish.inflight} gauge and the {@code mqtt.publish.latency} timer tagged with the channel name.
+ * They are removed from the registry by {@link #close()}.
+ */
+public class MqttPublishMetrics {
+
+    private static final boolean MICROMETER_AVAILABLE = isMicrometerAvailable();
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final String channel;
+    private final Object timer;
+
+    /**
+     * Constructor.
+     *
+     * @param channel the channel name
+     * @param register whether the metrics are registered in the Micrometer global registry
+     */
+    public MqttPublishMetrics(String channel, boolean register) {
+        this.channel = channel;
+        this.timer = register && MICROMETER_AVAILABLE ? MicrometerMetrics.register(channel, this) : null;
+    }
+
+    /**
+     * Records the start of a publication.
+     *
+     * @return the start time, to pass to {@link #completed(long)}
+     */
+    public long started() {
+        inflight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of a publication, successful or not.
+     *
+     * @param start the start time of the publication
+     */
+    public void completed(long start) {
+        long latency = System.nanoTime() - start;
+        inflight.decrementAndGet();
+        published.increment();
+        totalLatency.add(latency);
+        if (timer != null) {
+            MicrometerMetrics.record(timer, latency);
+        }
+    }
+
+    /**
+     * @return the number of publications waiting for their acknowledgement
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * @return the number of completed publications
+     */
+    public long getPublished() {
+        return published.sum();
+    }
+
+    /**
+     * @return the average latency of the completed publications, in nanoseconds
+     */
+    public long getAverageLatency() {
+        long count = published.sum();
+        return count == 0 ? 0 : totalLatency.sum() / count;
+    }
+
+    /**
+     * Removes the metrics from the Micrometer global registry, if registered.
+     */
+    public void close() {
+        if (timer != null) {
+            MicrometerMetrics.remove(channel, timer);
+        }
+    }
+
+    private static boolean isMicrometerAvailable() {
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false, MqttPublishMetrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Isolates the Micrometer classes, which are only loaded when Micrometer is available.
+     */
+    private static class MicrometerMetrics {
+
+        static Object register(String channel, MqttPublishMetrics metrics) {
+            Gauge.builder("mqtt.publish.inflight", metrics, MqttPublishMetrics::getInflight)
+                    .tag("channel", channel)
+                    .register(Metrics.globalRegistry);
+            return Timer.builder("mqtt.publish.latency")
+                    .tag("channel", channel)
+                    .register(Metrics.globalRegistry);
+        }
+
+        static void remove(String channel, Object timer) {
+            Gauge gauge = Metrics.globalRegistry.find("mqtt.publish.inflight").tag("channel", channel).gauge();
+            if (gauge != null) {
+                Metrics.globalRegistry.remove(gauge);
+            }
+            Metrics.globalRegistry.remove((Timer) timer);
+        }
+
+        static void record(Object timer, long latency) {
+            ((Timer) timer).record(latency, TimeUnit.NANOSECONDS);
+        }
+    }
+}
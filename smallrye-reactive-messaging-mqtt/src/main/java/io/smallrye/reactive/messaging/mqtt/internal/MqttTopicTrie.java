@@ -0,0 +1,106 @@
+package io.smallrye.reactive.messaging.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stores values by MQTT topic filter, and finds the values whose filter matches a topic name.
+ * <p>
+ * Filters are stored level by level, so matching a topic name only visits the levels of the topic name, whatever the
+ * number of filters. The {@code +} (single level) and {@code #} (multi level) wildcards follow the MQTT specification:
+ * {@code a/#} matches {@code a}, and wildcards at the first level do not match topic names starting with {@code $}.
+ * Shared subscription filters ({@code $share/group/filter}) are stored as their underlying filter.
+ * <p>
+ * Values can be added and removed concurrently with the lookups. Levels left without values and children are pruned
+ * on removal.
+ *
+ * @param <T> the type of the values
+ */
+public class MqttTopicTrie<T> {
+
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+
+    private final Node<T> root = new Node<>();
+
+    public synchronized void add(String filter, T value) {
+        Node<T> node = root;
+        for (String level : levels(MqttHelpers.rebuildMatchesWithSharedSubscription(filter))) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        node.values.add(value);
+    }
+
+    public synchronized void remove(String filter, T value) {
+        String[] levels = levels(MqttHelpers.rebuildMatchesWithSharedSubscription(filter));
+        List<Node<T>> path = new ArrayList<>(levels.length + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (String level : levels) {
+            node = node.children.get(level);
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+        }
+        node.values.remove(value);
+        for (int i = levels.length; i > 0 && path.get(i).isEmpty(); i--) {
+            path.get(i - 1).children.remove(levels[i - 1]);
+        }
+    }
+
+    boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Calls the given action with each value whose filter matches the given topic name.
+     *
+     * @param topicName the topic name, without wildcard
+     * @param action the action
+     */
+    public void match(String topicName, Consumer<T> action) {
+        String[] levels = levels(topicName);
+        match(root, levels, 0, !topicName.startsWith("$"), action);
+    }
+
+    private static <T> void match(Node<T> node, String[] levels, int index, boolean wildcards, Consumer<T> action) {
+        if (wildcards) {
+            Node<T> multi = node.children.get(MULTI_LEVEL);
+            if (multi != null) {
+                multi.values.forEach(action);
+            }
+        }
+        if (index == levels.length) {
+            node.values.forEach(action);
+            return;
+        }
+        Node<T> exact = node.children.get(levels[index]);
+        if (exact != null) {
+            match(exact, levels, index + 1, true, action);
+        }
+        if (wildcards) {
+            Node<T> single = node.children.get(SINGLE_LEVEL);
+            if (single != null) {
+                match(single, levels, index + 1, true, action);
+            }
+        }
+    }
+
+    private static String[] levels(String topic) {
+        return topic.split("/", -1);
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private final List<T> values = new CopyOnWriteArrayList<>();
+
+        private boolean isEmpty() {
+            return values.isEmpty() && children.isEmpty();
+        }
+    }
+}
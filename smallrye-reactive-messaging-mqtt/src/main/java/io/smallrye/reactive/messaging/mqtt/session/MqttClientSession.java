@@ -17,6 +17,7 @@
 package io.smallrye.reactive.messaging.mqtt.session;
 
 import io.netty.handler.codec.mqtt.MqttQoS;
+import io.smallrye.reactive.messaging.mqtt.i18n.MqttExceptions;
 import io.smallrye.reactive.messaging.mqtt.session.impl.MqttClientSessionImpl;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
@@ -186,4 +187,22 @@ public interface MqttClientSession {
     default Future<Integer> publish(String topic, Buffer payload, MqttQoS qosLevel) {
         return publish(topic, payload, qosLevel, false, false);
     }
+
+    /**
+     * Sends the PUBLISH message to the remote MQTT server, and waits for the server to acknowledge it
+     *
+     * @param topic topic on which the message is published
+     * @param payload message payload
+     * @param qosLevel QoS level
+     * @param isDup if the message is a duplicate
+     * @param isRetain if the message needs to be retained
+     * @return a {@code Future} completed with the packetid after PUBACK (QoS 1) or PUBCOMP (QoS 2) packet received,
+     *         or after PUBLISH packet sent for QoS 0. It is failed if the acknowledgement expires or the connection is
+     *         closed. The default implementation fails, as the completion of the publication cannot be observed
+     *         through {@link #publish(String, Buffer, MqttQoS, boolean, boolean)}.
+     */
+    default Future<Integer> publishAndAwaitCompletion(String topic, Buffer payload, MqttQoS qosLevel, boolean isDup,
+            boolean isRetain) {
+        return Future.failedFuture(MqttExceptions.ex.unsupportedPublishCompletion(getClass().getName()));
+    }
 }
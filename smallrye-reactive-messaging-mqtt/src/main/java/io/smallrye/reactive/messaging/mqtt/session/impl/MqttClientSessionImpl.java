@@ -1,6 +1,7 @@
 package io.smallrye.reactive.messaging.mqtt.session.impl;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -21,6 +22,7 @@ import io.smallrye.reactive.messaging.mqtt.session.SessionState;
 import io.smallrye.reactive.messaging.mqtt.session.SubscriptionEvent;
 import io.smallrye.reactive.messaging.mqtt.session.SubscriptionState;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -60,6 +62,10 @@ public class MqttClientSessionImpl implements MqttClientSession {
 
     // holds the actual MQTT client connection
     private MqttClient client;
+    // the context of the connection, on which the client is used
+    private volatile Context context;
+    // the publications waiting for their completion, by packet id
+    private final Map<Integer, Promise<Integer>> pendingCompletions = new HashMap<>();
     // an optional reconnect timer
     private Long reconnectTimer;
 
@@ -151,6 +157,8 @@ public class MqttClientSessionImpl implements MqttClientSession {
             this.notifyConnected.add(handler);
         }
 
+        this.context = this.vertx.getOrCreateContext();
+
         // we connect, not re-connect
         this.reconnectDelay.reset();
 
@@ -560,6 +568,7 @@ public class MqttClientSessionImpl implements MqttClientSession {
             this.client.publishCompletionUnknownPacketIdHandler(null);
             this.client = null;
         }
+        failPendingCompletions(cause);
         setState(SessionState.DISCONNECTED, cause);
     }
 
@@ -760,6 +769,42 @@ public class MqttClientSessionImpl implements MqttClientSession {
         return future.future();
     }
 
+    @Override
+    public Future<Integer> publishAndAwaitCompletion(String topic, Buffer payload, MqttQoS qosLevel, boolean isDup,
+            boolean isRetain) {
+        Promise<Integer> promise = Promise.promise();
+        // Publish on the connection context, so the completion cannot be received before the publication is registered
+        Context context = this.context;
+        Handler<Void> publish = x -> doPublish(topic, payload, qosLevel, isDup, isRetain)
+                .onComplete(ar -> {
+                    if (ar.failed()) {
+                        promise.fail(ar.cause());
+                    } else if (qosLevel == MqttQoS.AT_MOST_ONCE) {
+                        promise.complete(ar.result());
+                    } else {
+                        this.pendingCompletions.put(ar.result(), promise);
+                    }
+                });
+        if (context != null) {
+            context.runOnContext(publish);
+        } else {
+            this.vertx.runOnContext(publish);
+        }
+        return promise.future();
+    }
+
+    private void failPendingCompletions(Throwable cause) {
+        if (this.pendingCompletions.isEmpty()) {
+            return;
+        }
+        List<Promise<Integer>> pending = new ArrayList<>(this.pendingCompletions.values());
+        this.pendingCompletions.clear();
+        Throwable failure = cause != null ? cause : new VertxException("Connection closed");
+        for (Promise<Integer> promise : pending) {
+            promise.tryFail(failure);
+        }
+    }
+
     private Future<Integer> doPublish(String topic, Buffer payload, MqttQoS qosLevel, boolean isDup, boolean isRetain) {
         if (this.client != null && this.client.isConnected()) {
             // not checking for isConnected might throw a NPE from inside the client
@@ -770,6 +815,10 @@ public class MqttClientSessionImpl implements MqttClientSession {
     }
 
     private void publishComplete(Integer messageId) {
+        Promise<Integer> promise = this.pendingCompletions.remove(messageId);
+        if (promise != null) {
+            promise.complete(messageId);
+        }
         Handler<Integer> handler = this.publishCompleteHandler;
         if (handler != null) {
             handler.handle(messageId);
@@ -777,6 +826,10 @@ public class MqttClientSessionImpl implements MqttClientSession {
     }
 
     private void publishExpired(Integer messageId) {
+        Promise<Integer> promise = this.pendingCompletions.remove(messageId);
+        if (promise != null) {
+            promise.fail(new VertxException("Acknowledgement of the PUBLISH packet " + messageId + " expired"));
+        }
         Handler<Integer> handler = this.publishCompletionExpirationHandler;
         if (handler != null) {
             handler.handle(messageId);
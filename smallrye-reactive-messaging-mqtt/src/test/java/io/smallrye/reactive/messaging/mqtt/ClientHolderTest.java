@@ -0,0 +1,154 @@
+package io.smallrye.reactive.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import io.netty.handler.codec.mqtt.MqttQoS;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.reactive.messaging.mqtt.session.MqttClientSession;
+import io.smallrye.reactive.messaging.mqtt.session.SessionEvent;
+import io.smallrye.reactive.messaging.mqtt.session.SessionState;
+import io.vertx.core.Handler;
+import io.vertx.mqtt.messages.MqttPublishMessage;
+
+class ClientHolderTest {
+
+    AtomicReference<Handler<MqttPublishMessage>> messageHandler = new AtomicReference<>();
+    AtomicReference<Handler<SessionEvent>> sessionStateHandler = new AtomicReference<>();
+    Clients.ClientHolder holder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MqttClientSession session = mock(MqttClientSession.class);
+        when(session.messageHandler(any())).thenAnswer(invocation -> {
+            messageHandler.set(invocation.getArgument(0, Handler.class));
+            return session;
+        });
+        when(session.sessionStateHandler(any())).thenAnswer(invocation -> {
+            sessionStateHandler.set(invocation.getArgument(0, Handler.class));
+            return session;
+        });
+        holder = new Clients.ClientHolder(session, false);
+    }
+
+    MqttPublishMessage receive(String topic, MqttQoS qos) {
+        MqttPublishMessage message = mock(MqttPublishMessage.class);
+        when(message.topicName()).thenReturn(topic);
+        when(message.qosLevel()).thenReturn(qos);
+        messageHandler.get().handle(message);
+        return message;
+    }
+
+    AssertSubscriber<Runnable> acks(String topicFilter) {
+        return holder.stream(topicFilter, (message, ack) -> ack)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+    }
+
+    @Test
+    void testAcknowledgementsAreSentInReceptionOrder() {
+        AssertSubscriber<Runnable> subscriber = acks("a/+");
+        MqttPublishMessage first = receive("a/1", MqttQoS.AT_LEAST_ONCE);
+        MqttPublishMessage second = receive("a/2", MqttQoS.EXACTLY_ONCE);
+        List<Runnable> items = subscriber.getItems();
+
+        items.get(1).run();
+        verify(second, never()).ack();
+
+        items.get(0).run();
+        InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).ack();
+        inOrder.verify(second).ack();
+    }
+
+    @Test
+    void testMessageIsAcknowledgedByAllMatchingStreams() {
+        AssertSubscriber<Runnable> s1 = acks("a/#");
+        AssertSubscriber<Runnable> s2 = acks("a/b");
+        MqttPublishMessage message = receive("a/b", MqttQoS.AT_LEAST_ONCE);
+
+        s1.getItems().get(0).run();
+        verify(message, never()).ack();
+        s2.getItems().get(0).run();
+        verify(message).ack();
+    }
+
+    @Test
+    void testUnmatchedMessageIsAcknowledged() {
+        MqttPublishMessage message = receive("unknown", MqttQoS.AT_LEAST_ONCE);
+        verify(message).ack();
+    }
+
+    @Test
+    void testPendingAcknowledgementsAreDroppedOnDisconnection() {
+        AssertSubscriber<Runnable> subscriber = acks("a");
+        MqttPublishMessage stale = receive("a", MqttQoS.AT_LEAST_ONCE);
+        SessionEvent event = mock(SessionEvent.class);
+        when(event.getSessionState()).thenReturn(SessionState.CONNECTING);
+        sessionStateHandler.get().handle(event);
+        MqttPublishMessage redelivered = receive("a", MqttQoS.AT_LEAST_ONCE);
+
+        subscriber.getItems().get(1).run();
+        verify(redelivered).ack();
+        subscriber.getItems().get(0).run();
+        verify(stale, never()).ack();
+    }
+
+    @Test
+    void testAcknowledgementIsRecordedOncePerStream() {
+        AssertSubscriber<Runnable> s1 = acks("a/#");
+        AssertSubscriber<Runnable> s2 = acks("a/b");
+        MqttPublishMessage message = receive("a/b", MqttQoS.AT_LEAST_ONCE);
+
+        s1.getItems().get(0).run();
+        s1.getItems().get(0).run();
+        verify(message, never()).ack();
+        s2.getItems().get(0).run();
+        verify(message).ack();
+    }
+
+    @Test
+    void testTerminatedStreamReleasesItsMessages() {
+        AssertSubscriber<Runnable> s1 = acks("a/#");
+        AssertSubscriber<Runnable> s2 = acks("a/b");
+        MqttPublishMessage first = receive("a/b", MqttQoS.AT_LEAST_ONCE);
+
+        s1.getItems().get(0).run();
+        s2.cancel();
+        verify(first).ack();
+
+        MqttPublishMessage second = receive("a/b", MqttQoS.AT_LEAST_ONCE);
+        assertThat(s2.getItems()).hasSize(1);
+        s1.getItems().get(1).run();
+        verify(second).ack();
+    }
+
+    @Test
+    void testTerminatedStreamDoesNotHoldBackNextMessages() {
+        AssertSubscriber<Runnable> s1 = acks("a/#");
+        AssertSubscriber<Runnable> s2 = acks("a/b");
+        MqttPublishMessage first = receive("a/b", MqttQoS.AT_LEAST_ONCE);
+        MqttPublishMessage second = receive("a/c", MqttQoS.AT_LEAST_ONCE);
+
+        s1.getItems().get(1).run();
+        s1.getItems().get(0).run();
+        verify(second, never()).ack();
+
+        s2.cancel();
+        InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).ack();
+        inOrder.verify(second).ack();
+    }
+}
@@ -0,0 +1,144 @@
+package io.smallrye.reactive.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.handler.codec.mqtt.MqttQoS;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.health.HealthReport;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mqtt.MqttEndpoint;
+import io.vertx.mqtt.MqttServer;
+import io.vertx.mqtt.MqttTopicSubscription;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Checks the connection pool against an in-process MQTT server.
+ */
+class MqttClientPoolTest {
+
+    Vertx vertx;
+    MqttServer server;
+    Map<String, MqttEndpoint> endpoints = new ConcurrentHashMap<>();
+    Map<String, List<String>> subscriptions = new ConcurrentHashMap<>();
+    Map<String, List<String>> published = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        server = MqttServer.create(vertx.getDelegate());
+        server.endpointHandler(e -> {
+            String id = e.clientIdentifier();
+            e.publishHandler(m -> published.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>())
+                    .add(m.payload().toString()));
+            e.subscribeHandler(s -> {
+                List<String> filters = s.topicSubscriptions().stream().map(MqttTopicSubscription::topicName)
+                        .collect(Collectors.toList());
+                subscriptions.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).addAll(filters);
+                e.subscribeAcknowledge(s.messageId(), s.topicSubscriptions().stream()
+                        .map(MqttTopicSubscription::qualityOfService).collect(Collectors.toList()));
+            });
+            e.accept(false);
+            endpoints.put(id, e);
+        });
+        server.listen(0).toCompletionStage().toCompletableFuture().join();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Clients.clear();
+        server.close().toCompletionStage().toCompletableFuture().join();
+        vertx.closeAndAwait();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testPublicationsAreSpreadOverThePool() {
+        MqttSink sink = new MqttSink(vertx, new MqttConnectorOutgoingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "pool",
+                "topic", "pool",
+                "host", "localhost",
+                "port", server.actualPort(),
+                "client-id", "sink",
+                "pool-size", 3))), null);
+
+        Subscriber<? extends Message<?>> subscriber = sink.getSink();
+        // Do not complete the stream, which would close the connections
+        Multi.createBy().concatenating().streams(Multi.createFrom().range(0, 9), Multi.createFrom().<Integer> nothing())
+                .map(Message::of)
+                .subscribe((Subscriber<? super Message<Integer>>) subscriber);
+
+        await().until(() -> published.values().stream().mapToInt(List::size).sum() == 9);
+        assertThat(published).containsOnlyKeys("sink-0", "sink-1", "sink-2");
+        assertThat(published.values()).allSatisfy(payloads -> assertThat(payloads).hasSize(3));
+
+        HealthReport.HealthReportBuilder builder = HealthReport.builder();
+        sink.isReady(builder);
+        assertThat(builder.build().isOk()).isTrue();
+
+        endpoints.get("sink-1").close();
+        await().untilAsserted(() -> {
+            HealthReport.HealthReportBuilder b = HealthReport.builder();
+            sink.isReady(b);
+            HealthReport report = b.build();
+            assertThat(report.isOk()).isFalse();
+            assertThat(report.getChannels().get(0).getMessage()).contains("[1]");
+        });
+    }
+
+    @Test
+    void testSharedSubscriptionOnAllTheConnections() {
+        MqttSource source = new MqttSource(vertx, new MqttConnectorIncomingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "pool",
+                "topic", "pool",
+                "host", "localhost",
+                "port", server.actualPort(),
+                "client-id", "source",
+                "pool-size", 2,
+                "pool-shared-group", "group"))), null);
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        Multi.createFrom().publisher(source.getSource())
+                .subscribe().with(m -> received.add(new String((byte[]) m.getPayload())));
+
+        await().until(() -> subscriptions.size() == 2);
+        assertThat(subscriptions).containsOnlyKeys("source-0", "source-1");
+        assertThat(subscriptions.values()).allSatisfy(filters -> assertThat(filters).containsExactly("$share/group/pool"));
+
+        endpoints.get("source-0").publish("pool", Buffer.buffer("a"), MqttQoS.AT_MOST_ONCE, false, false);
+        endpoints.get("source-1").publish("pool", Buffer.buffer("b"), MqttQoS.AT_MOST_ONCE, false, false);
+        await().until(() -> received.size() == 2);
+        assertThat(received).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void testSubscriptionsAreSpreadOverThePoolWithoutGroup() {
+        for (String channel : List.of("a", "b")) {
+            MqttSource source = new MqttSource(vertx, new MqttConnectorIncomingConfiguration(new MapBasedConfig(Map.of(
+                    "channel-name", channel,
+                    "host", "localhost",
+                    "port", server.actualPort(),
+                    "client-id", "source",
+                    "pool-size", 2))), null);
+            Multi.createFrom().publisher(source.getSource()).subscribe().with(m -> {
+            });
+        }
+
+        await().until(() -> subscriptions.size() == 2);
+        assertThat(subscriptions.get("source-0")).containsExactly("a");
+        assertThat(subscriptions.get("source-1")).containsExactly("b");
+    }
+}
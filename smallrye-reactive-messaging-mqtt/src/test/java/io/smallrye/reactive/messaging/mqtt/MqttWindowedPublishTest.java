@@ -0,0 +1,168 @@
+package io.smallrye.reactive.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.mqtt.MqttEndpoint;
+import io.vertx.mqtt.MqttServer;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Checks the windowed publishing against an in-process MQTT server, which acknowledges the publications on demand.
+ */
+class MqttWindowedPublishTest {
+
+    Vertx vertx;
+    MqttServer server;
+    AtomicReference<MqttEndpoint> endpoint = new AtomicReference<>();
+    List<Integer> received = new CopyOnWriteArrayList<>();
+    Map<String, MqttEndpoint> endpoints = new ConcurrentHashMap<>();
+    Map<String, List<Integer>> receivedBy = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        server = MqttServer.create(vertx.getDelegate());
+        server.endpointHandler(e -> {
+            e.publishAutoAck(false);
+            e.publishHandler(m -> {
+                received.add(m.messageId());
+                receivedBy.computeIfAbsent(e.clientIdentifier(), k -> new CopyOnWriteArrayList<>()).add(m.messageId());
+            });
+            e.accept(false);
+            endpoint.set(e);
+            endpoints.put(e.clientIdentifier(), e);
+        });
+        server.listen(0).toCompletionStage().toCompletableFuture().join();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Clients.clear();
+        server.close().toCompletionStage().toCompletableFuture().join();
+        vertx.closeAndAwait();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testPublicationsAreAcknowledgedOnPubAck() {
+        MqttSink sink = new MqttSink(vertx, new MqttConnectorOutgoingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "windowed",
+                "topic", "windowed",
+                "host", "localhost",
+                "port", server.actualPort(),
+                "qos", 1,
+                "max-inflight-queue", 5,
+                "windowed-publish", true))), null);
+
+        List<Integer> acked = new CopyOnWriteArrayList<>();
+        Subscriber<? extends Message<?>> subscriber = sink.getSink();
+        Multi.createFrom().range(0, 10)
+                .map(i -> Message.of(i, () -> {
+                    acked.add(i);
+                    return java.util.concurrent.CompletableFuture.completedFuture(null);
+                }))
+                .subscribe((Subscriber<? super Message<Integer>>) subscriber);
+
+        // The publications of the window are sent without waiting for their acknowledgement
+        await().until(() -> received.size() == 5);
+        assertThat(acked).isEmpty();
+        assertThat(sink.getPublishMetrics().getInflight()).isEqualTo(5);
+
+        endpoint.get().publishAcknowledge(received.get(0));
+        endpoint.get().publishAcknowledge(received.get(1));
+        await().until(() -> acked.size() == 2);
+        await().until(() -> received.size() == 7);
+
+        for (int i = 2; i < 10; i++) {
+            int index = i;
+            await().until(() -> received.size() > index);
+            endpoint.get().publishAcknowledge(received.get(i));
+        }
+        await().until(() -> acked.size() == 10);
+        assertThat(acked).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(sink.getPublishMetrics().getInflight()).isZero();
+        assertThat(sink.getPublishMetrics().getPublished()).isEqualTo(10);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testMetersAreRegisteredForWindowedChannelsUntilTermination() {
+        MqttSink windowed = new MqttSink(vertx, new MqttConnectorOutgoingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "metered",
+                "topic", "metered",
+                "host", "localhost",
+                "port", server.actualPort(),
+                "qos", 1,
+                "windowed-publish", true))), null);
+        new MqttSink(vertx, new MqttConnectorOutgoingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "unmetered",
+                "topic", "unmetered",
+                "host", "localhost",
+                "port", server.actualPort()))), null);
+
+        assertThat(Metrics.globalRegistry.find("mqtt.publish.inflight").tag("channel", "metered").gauge()).isNotNull();
+        assertThat(Metrics.globalRegistry.find("mqtt.publish.latency").tag("channel", "metered").timer()).isNotNull();
+        assertThat(Metrics.globalRegistry.find("mqtt.publish.inflight").tag("channel", "unmetered").meters()).isEmpty();
+        assertThat(Metrics.globalRegistry.find("mqtt.publish.latency").tag("channel", "unmetered").meters()).isEmpty();
+
+        Multi.createFrom().range(0, 3)
+                .map(Message::of)
+                .subscribe((Subscriber<? super Message<Integer>>) windowed.getSink());
+        await().until(() -> received.size() == 3);
+        received.forEach(id -> endpoint.get().publishAcknowledge(id));
+
+        await().until(() -> Metrics.globalRegistry.find("mqtt.publish.latency").tag("channel", "metered").meters()
+                .isEmpty());
+        assertThat(Metrics.globalRegistry.find("mqtt.publish.inflight").tag("channel", "metered").meters()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testEachConnectionOfThePoolHasItsOwnWindow() {
+        MqttSink sink = new MqttSink(vertx, new MqttConnectorOutgoingConfiguration(new MapBasedConfig(Map.of(
+                "channel-name", "pooled",
+                "topic", "pooled",
+                "host", "localhost",
+                "port", server.actualPort(),
+                "client-id", "sink",
+                "qos", 1,
+                "max-inflight-queue", 2,
+                "pool-size", 2,
+                "windowed-publish", true))), null);
+
+        Subscriber<? extends Message<?>> subscriber = sink.getSink();
+        Multi.createFrom().range(0, 10)
+                .map(Message::of)
+                .subscribe((Subscriber<? super Message<Integer>>) subscriber);
+
+        // Each connection publishes up to max-inflight-queue messages
+        await().until(() -> received.size() == 4);
+        await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+        assertThat(receivedBy).containsOnlyKeys("sink-0", "sink-1");
+        assertThat(receivedBy.values()).allSatisfy(ids -> assertThat(ids).hasSize(2));
+
+        // The next publication uses the only connection with a free slot
+        endpoints.get("sink-1").publishAcknowledge(receivedBy.get("sink-1").get(0));
+        await().until(() -> received.size() == 5);
+        await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+        assertThat(receivedBy.get("sink-0")).hasSize(2);
+        assertThat(receivedBy.get("sink-1")).hasSize(3);
+    }
+}
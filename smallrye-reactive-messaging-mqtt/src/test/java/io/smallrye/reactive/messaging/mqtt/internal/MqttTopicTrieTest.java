@@ -0,0 +1,74 @@
+package io.smallrye.reactive.messaging.mqtt.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MqttTopicTrieTest {
+
+    MqttTopicTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new MqttTopicTrie<>();
+        for (String filter : new String[] { "a/b", "a/+", "a/#", "+/b", "#", "a/+/c", "$SYS/#", "$share/group/a/b/c" }) {
+            trie.add(filter, filter);
+        }
+    }
+
+    List<String> match(String topic) {
+        List<String> matches = new ArrayList<>();
+        trie.match(topic, matches::add);
+        return matches;
+    }
+
+    @Test
+    void testExactAndSingleLevelWildcard() {
+        assertThat(match("a/b")).containsExactlyInAnyOrder("a/b", "a/+", "a/#", "+/b", "#");
+        assertThat(match("x/b")).containsExactlyInAnyOrder("+/b", "#");
+        assertThat(match("a/x/c")).containsExactlyInAnyOrder("a/#", "a/+/c", "#");
+    }
+
+    @Test
+    void testMultiLevelWildcardMatchesParentLevel() {
+        assertThat(match("a")).containsExactlyInAnyOrder("a/#", "#");
+        assertThat(match("a/b/c/d")).containsExactlyInAnyOrder("a/#", "#");
+    }
+
+    @Test
+    void testSharedSubscription() {
+        assertThat(match("a/b/c")).containsExactlyInAnyOrder("$share/group/a/b/c", "a/+/c", "a/#", "#");
+    }
+
+    @Test
+    void testDollarTopicsAreNotMatchedByLeadingWildcards() {
+        assertThat(match("$SYS/broker")).containsExactly("$SYS/#");
+    }
+
+    @Test
+    void testRemove() {
+        trie.remove("a/+", "a/+");
+        trie.remove("#", "#");
+        trie.remove("unknown/filter", "unknown/filter");
+        assertThat(match("a/b")).containsExactlyInAnyOrder("a/b", "a/#", "+/b");
+    }
+
+    @Test
+    void testRemovePrunesEmptyLevels() {
+        MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/b/c", "first");
+        trie.add("a/b/c", "second");
+        trie.add("a/x", "third");
+
+        trie.remove("a/b/c", "first");
+        trie.remove("a/x", "third");
+        assertThat(trie.isEmpty()).isFalse();
+
+        trie.remove("a/b/c", "second");
+        assertThat(trie.isEmpty()).isTrue();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
 
@@ -21,6 +22,10 @@ import io.smallrye.reactive.messaging.providers.helpers.NoStackTraceException;
 public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T> {
     public static final NoStackTraceException NO_SUBSCRIBER_EXCEPTION = new NoStackTraceException(
             "Unable to process message - no subscriber");
+    public static final NoStackTraceException DROPPED_EXCEPTION = new NoStackTraceException(
+            "Unable to process message - dropped from the overflow buffer");
+    public static final String BLOCK_TIMEOUT_PROPERTY = "mp.messaging.emitter.default-block-timeout";
+    public static final long DEFAULT_BLOCK_TIMEOUT = 10000L;
     protected final AtomicReference<MultiEmitter<? super Message<? extends T>>> internal = new AtomicReference<>();
     protected final Multi<Message<? extends T>> publisher;
 
@@ -31,6 +36,11 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
 
     private final ReentrantLock lock = new ReentrantLock();
 
+    /**
+     * The occupancy of the bounded overflow buffer, {@code null} if the overflow strategy does not use it.
+     */
+    private BoundedOverflowEmitter.Occupancy occupancy;
+
     @SuppressWarnings("unchecked")
     public AbstractEmitter(EmitterConfiguration config, long defaultBufferSize) {
         this.name = config.name();
@@ -127,11 +137,60 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
             case NONE:
                 return Multi.createFrom().emitter(deferred, BackPressureStrategy.IGNORE);
 
+            case DROP_OLDEST:
+                occupancy = new BoundedOverflowEmitter.Occupancy(getBoundedBufferSize(bufferSize, defaultBufferSize));
+                return BoundedOverflowEmitter.create(deferred, occupancy, BoundedOverflowEmitter.Mode.DROP_OLDEST, 0,
+                        m -> m.nack(DROPPED_EXCEPTION));
+
+            case BLOCK:
+                occupancy = new BoundedOverflowEmitter.Occupancy(getBoundedBufferSize(bufferSize, defaultBufferSize));
+                return BoundedOverflowEmitter.create(deferred, occupancy, BoundedOverflowEmitter.Mode.BLOCK,
+                        getBlockTimeout(), m -> m.nack(DROPPED_EXCEPTION));
+
             default:
                 throw ex.illegalArgumentForBackPressure(overFlowStrategy);
         }
     }
 
+    private static int getBoundedBufferSize(long bufferSize, long defaultBufferSize) {
+        long size = bufferSize > 0 ? bufferSize : defaultBufferSize;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long getBlockTimeout() {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(BLOCK_TIMEOUT_PROPERTY, Long.class)
+                    .orElse(DEFAULT_BLOCK_TIMEOUT);
+        } catch (IllegalStateException e) {
+            // No config available
+            return DEFAULT_BLOCK_TIMEOUT;
+        }
+    }
+
+    /**
+     * @return the number of messages stored in the overflow buffer, {@code -1} if the overflow strategy does not
+     *         use a bounded overflow buffer ({@code DROP_OLDEST} and {@code BLOCK} strategies).
+     */
+    public int getOverflowBufferSize() {
+        return occupancy == null ? -1 : occupancy.size();
+    }
+
+    /**
+     * @return the capacity of the overflow buffer, {@code -1} if the overflow strategy does not use a bounded
+     *         overflow buffer ({@code DROP_OLDEST} and {@code BLOCK} strategies).
+     */
+    public int getOverflowBufferCapacity() {
+        return occupancy == null ? -1 : occupancy.capacity();
+    }
+
+    /**
+     * @return the number of messages dropped from the overflow buffer, {@code -1} if the overflow strategy does not
+     *         use a bounded overflow buffer ({@code DROP_OLDEST} and {@code BLOCK} strategies).
+     */
+    public long getOverflowBufferDropped() {
+        return occupancy == null ? -1 : occupancy.dropped();
+    }
+
     /**
      * Creates the stream when using the default buffer size.
      *
@@ -156,6 +215,7 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
         if (message == null) {
             throw ex.illegalArgumentForNullValue();
         }
+        BoundedOverflowEmitter<?> reservation = reserve();
         lock.lock();
         try {
             MultiEmitter<? super Message<? extends T>> emitter = verify();
@@ -165,20 +225,133 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
                     // However, nack the message, so the sender can be aware of the rejection.
                     message.nack(NO_SUBSCRIBER_EXCEPTION);
                 }
+                release(reservation);
                 return;
             }
+            emitLocked(emitter, message, reservation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Emits the given payloads without observing their acknowledgement.
+     * The lock is acquired and the emitter is verified once for the whole batch. The payloads are wrapped into
+     * lightweight messages which do not allocate completion state.
+     * If the emission fails for one of the payloads, the remaining payloads are not emitted.
+     *
+     * @param payloads the payloads to emit, must not be {@code null}, must not contain {@code null}
+     */
+    protected void emitAndForget(Iterable<? extends T> payloads) {
+        if (payloads == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        if (overflow == OnOverflow.Strategy.BLOCK) {
+            // Wait for a free slot for each payload, without holding the lock
+            for (T payload : payloads) {
+                emitAndForget(payload);
+            }
+            return;
+        }
+        lock.lock();
+        try {
+            MultiEmitter<? super Message<? extends T>> emitter = verify();
+            if (emitter == null) {
+                // There are no subscribers, but because we use the DROP strategy, just ignore the events.
+                // The acknowledgement is not observed, so there is no one to notify.
+                return;
+            }
+            for (T payload : payloads) {
+                if (payload == null) {
+                    throw ex.illegalArgumentForNullValue();
+                }
+                emitLocked(emitter, FireAndForgetMessage.of(payload));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Emits a single payload without observing its acknowledgement.
+     *
+     * @param payload the payload to emit, must not be {@code null}
+     */
+    protected void emitAndForget(T payload) {
+        if (payload == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        BoundedOverflowEmitter<?> reservation = reserve();
+        lock.lock();
+        try {
+            MultiEmitter<? super Message<? extends T>> emitter = verify();
+            if (emitter != null) {
+                emitLocked(emitter, FireAndForgetMessage.of(payload), reservation);
+            } else {
+                release(reservation);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void emitLocked(MultiEmitter<? super Message<? extends T>> emitter, Message<? extends T> message) {
+        emitLocked(emitter, message, null);
+    }
+
+    /**
+     * Emits the message, consuming the given reservation.
+     *
+     * @param reservation the emitter on which a slot has been reserved with {@link #reserve()}, {@code null} if none
+     */
+    private void emitLocked(MultiEmitter<? super Message<? extends T>> emitter, Message<? extends T> message,
+            BoundedOverflowEmitter<?> reservation) {
+        try {
             if (synchronousFailure.get() != null) {
                 throw ex.incomingNotFoundForEmitter(synchronousFailure.get());
             }
             if (emitter.isCancelled()) {
                 throw ex.illegalStateForDownstreamCancel();
             }
-            emitter.emit(message);
-            if (synchronousFailure.get() != null) {
-                throw ex.illegalStateForEmitterWhileEmitting(synchronousFailure.get());
+            if (emitter != reservation && emitter instanceof BoundedOverflowEmitter) {
+                // The emitter has been replaced while waiting for a slot, do not wait again while holding the lock
+                release(reservation);
+                reservation = null;
+                ((BoundedOverflowEmitter<?>) emitter).tryReserve();
             }
-        } finally {
-            lock.unlock();
+        } catch (RuntimeException e) {
+            release(reservation);
+            throw e;
+        }
+        // The emitter consumes the reserved slot
+        emitter.emit(message);
+        if (synchronousFailure.get() != null) {
+            throw ex.illegalStateForEmitterWhileEmitting(synchronousFailure.get());
+        }
+    }
+
+    /**
+     * With the {@code BLOCK} strategy, waits for a free slot in the overflow buffer. It must be called before taking
+     * the lock, so callers waiting for a slot do not block the other callers, including event loop threads.
+     *
+     * @return the emitter on which the slot has been reserved, {@code null} if none
+     */
+    private BoundedOverflowEmitter<?> reserve() {
+        if (overflow != OnOverflow.Strategy.BLOCK) {
+            return null;
+        }
+        MultiEmitter<? super Message<? extends T>> emitter = internal.get();
+        if (emitter instanceof BoundedOverflowEmitter && !emitter.isCancelled()) {
+            BoundedOverflowEmitter<?> bounded = (BoundedOverflowEmitter<?>) emitter;
+            bounded.reserve();
+            return bounded;
+        }
+        return null;
+    }
+
+    private static void release(BoundedOverflowEmitter<?> reservation) {
+        if (reservation != null) {
+            reservation.release();
         }
     }
 
@@ -0,0 +1,356 @@
+package io.smallrye.reactive.messaging.providers.extension;
+
+import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.vertx.core.Context;
+
+/**
+ * An Emitter storing the items in a bounded ring buffer when the downstream does not request enough items.
+ * <p>
+ * When the buffer is full, depending on the mode, either the oldest buffered item is dropped to make room for the new
+ * one, or the caller is blocked until the downstream consumes items or the timeout expires. Blocking is never done on
+ * an event loop thread, in this case the emission fails immediately like with a full bounded buffer.
+ * <p>
+ * In {@link Mode#BLOCK} mode, the caller waits for a free slot with {@link #reserve()} before emitting, so the
+ * emitters can wait outside of the lock serializing the emissions. {@link #emit(Object)} uses the reserved slot.
+ * <p>
+ * The buffer supports a single producer: the emitters using it serialize the emissions.
+ * Consuming from the buffer is lock-free so the producer can evict the oldest item concurrently with the drain loop.
+ * Items still buffered when the downstream cancels are passed to the drop callback, like evicted items.
+ *
+ * @param <T> the type to emit
+ */
+class BoundedOverflowEmitter<T> implements MultiEmitter<T>, Flow.Subscription {
+
+    enum Mode {
+        DROP_OLDEST,
+        BLOCK
+    }
+
+    /**
+     * Tracks the occupancy of the buffers created for an emitter, across subscriptions.
+     */
+    static class Occupancy {
+        private final int capacity;
+        private volatile BoundedOverflowEmitter<?> current;
+        private final LongAdder dropped = new LongAdder();
+
+        Occupancy(int capacity) {
+            this.capacity = capacity;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        int size() {
+            BoundedOverflowEmitter<?> emitter = current;
+            return emitter == null ? 0 : emitter.size();
+        }
+
+        long dropped() {
+            return dropped.sum();
+        }
+    }
+
+    public static <T> Multi<T> create(Consumer<MultiEmitter<? super T>> deferred, Occupancy occupancy, Mode mode,
+            long timeoutInMs, Consumer<T> onDrop) {
+        return Infrastructure.onMultiCreation(new AbstractMulti<T>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super T> subscriber) {
+                BoundedOverflowEmitter<T> emitter = new BoundedOverflowEmitter<>(subscriber, occupancy, mode,
+                        timeoutInMs, onDrop);
+                occupancy.current = emitter;
+                subscriber.onSubscribe(emitter);
+                deferred.accept(emitter);
+            }
+        });
+    }
+
+    private final MultiSubscriber<? super T> downstream;
+    private final Occupancy occupancy;
+    private final Mode mode;
+    private final long timeoutInMs;
+    private final Consumer<T> onDrop;
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int capacity;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    /**
+     * Free slots, only used in {@link Mode#BLOCK} mode.
+     */
+    private final Semaphore slots;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable failure;
+    private volatile Runnable onTermination;
+
+    BoundedOverflowEmitter(MultiSubscriber<? super T> downstream, Occupancy occupancy, Mode mode, long timeoutInMs,
+            Consumer<T> onDrop) {
+        this.downstream = downstream;
+        this.occupancy = occupancy;
+        this.mode = mode;
+        this.timeoutInMs = timeoutInMs;
+        this.onDrop = onDrop;
+        this.capacity = occupancy.capacity();
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.slots = mode == Mode.BLOCK ? new Semaphore(capacity) : null;
+    }
+
+    /**
+     * Emits the given item. In {@link Mode#BLOCK} mode, a slot must have been reserved with {@link #reserve()} or
+     * {@link #tryReserve()}, the reservation is consumed by this call.
+     */
+    @Override
+    public MultiEmitter<T> emit(T item) {
+        if (done || cancelled) {
+            if (slots != null) {
+                slots.release();
+            }
+            // Nobody is going to consume the item
+            onDrop.accept(item);
+            return this;
+        }
+        if (mode == Mode.DROP_OLDEST && size() >= capacity) {
+            T oldest = poll();
+            if (oldest != null) {
+                occupancy.dropped.increment();
+                onDrop.accept(oldest);
+            }
+        }
+        long index = producerIndex.get();
+        buffer.set(offset(index), item);
+        producerIndex.set(index + 1);
+        drain();
+        return this;
+    }
+
+    /**
+     * Waits for a free slot in {@link Mode#BLOCK} mode, does nothing in the other modes.
+     * Must not be called while holding the lock serializing the emissions, as it may block.
+     *
+     * @throws IllegalStateException if no slot is available before the timeout, or immediately on an event loop thread
+     */
+    void reserve() {
+        if (slots == null || slots.tryAcquire()) {
+            return;
+        }
+        if (Context.isOnEventLoopThread()) {
+            // Never block the event loop
+            throw ex.illegalStateInsufficientDownstreamRequests();
+        }
+        try {
+            if (!slots.tryAcquire(timeoutInMs, TimeUnit.MILLISECONDS)) {
+                throw ex.illegalStateOverflowBufferFull(timeoutInMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ex.illegalStateOverflowBufferFull(timeoutInMs);
+        }
+    }
+
+    /**
+     * Reserves a free slot without waiting in {@link Mode#BLOCK} mode, does nothing in the other modes.
+     *
+     * @throws IllegalStateException if no slot is available
+     */
+    void tryReserve() {
+        if (slots != null && !slots.tryAcquire()) {
+            throw ex.illegalStateInsufficientDownstreamRequests();
+        }
+    }
+
+    /**
+     * Releases a slot reserved with {@link #reserve()} and not consumed by {@link #emit(Object)}.
+     */
+    void release() {
+        if (slots != null) {
+            slots.release();
+        }
+    }
+
+    private int offset(long index) {
+        return (int) (index % capacity);
+    }
+
+    int size() {
+        // Read the consumer index first, so the size is never negative
+        long consumer = consumerIndex.get();
+        long producer = producerIndex.get();
+        return (int) (producer - consumer);
+    }
+
+    /**
+     * Removes the head of the buffer. Can be called concurrently by the drain loop and the producer evicting the
+     * oldest item.
+     *
+     * @return the head of the buffer, {@code null} if empty
+     */
+    private T poll() {
+        for (;;) {
+            long index = consumerIndex.get();
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            int offset = offset(index);
+            T item = buffer.get(offset);
+            if (consumerIndex.compareAndSet(index, index + 1)) {
+                // The slot may already have been reused by the producer, only clear our own item
+                buffer.compareAndSet(offset, item, null);
+                if (slots != null) {
+                    slots.release();
+                }
+                return item;
+            }
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            long r = requested.get();
+            long e = 0L;
+            while (e != r) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                boolean d = done;
+                T item = poll();
+                if (item == null) {
+                    if (d) {
+                        terminate();
+                        return;
+                    }
+                    break;
+                }
+                downstream.onItem(item);
+                e++;
+            }
+            if (e == r) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                if (done && size() == 0) {
+                    terminate();
+                    return;
+                }
+            }
+            if (e != 0) {
+                Subscriptions.produced(requested, e);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void terminate() {
+        Throwable f = failure;
+        if (f != null) {
+            downstream.onFailure(f);
+        } else {
+            downstream.onCompletion();
+        }
+        runTermination();
+    }
+
+    private void clear() {
+        T item;
+        while ((item = poll()) != null) {
+            onDrop.accept(item);
+        }
+        runTermination();
+    }
+
+    private void runTermination() {
+        if (occupancy.current == this) {
+            occupancy.current = null;
+        }
+        Runnable action = onTermination;
+        onTermination = null;
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    @Override
+    public void fail(Throwable failure) {
+        if (done || cancelled) {
+            return;
+        }
+        this.failure = failure;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void complete() {
+        if (done || cancelled) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public MultiEmitter<T> onTermination(Runnable onTermination) {
+        this.onTermination = onTermination;
+        return this;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public long requested() {
+        return requested.get();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(Subscriptions.getInvalidRequestException());
+            return;
+        }
+        Subscriptions.add(requested, n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+    }
+}
@@ -39,6 +39,16 @@ public class EmitterImpl<T> extends AbstractEmitter<T> implements Emitter<T> {
         return future;
     }
 
+    @Override
+    public void sendAndForget(T payload) {
+        emitAndForget(payload);
+    }
+
+    @Override
+    public void sendAll(Iterable<? extends T> payloads) {
+        emitAndForget(payloads);
+    }
+
     @Override
     public <M extends Message<? extends T>> void send(M msg) {
         if (msg == null) {
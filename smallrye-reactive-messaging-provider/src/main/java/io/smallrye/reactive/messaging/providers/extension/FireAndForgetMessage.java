@@ -0,0 +1,56 @@
+package io.smallrye.reactive.messaging.providers.extension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+
+import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
+import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+
+/**
+ * Message wrapping a payload sent by an emitter when the acknowledgement is not observed by the caller.
+ * <p>
+ * Unlike the messages created by {@code send(T payload)}, it does not capture any per-message completion state: the
+ * acknowledgement is a no-op and the negative-acknowledgement only logs the failure using a shared function.
+ *
+ * @param <T> the type of payload
+ */
+final class FireAndForgetMessage<T> implements ContextAwareMessage<T> {
+
+    private static final BiFunction<Throwable, Metadata, CompletionStage<Void>> LOG_NACK = (reason, metadata) -> {
+        ProviderLogging.log.failureEmittingMessage(reason);
+        return CompletableFuture.completedFuture(null);
+    };
+
+    private final T payload;
+    private final Metadata metadata;
+
+    private FireAndForgetMessage(T payload, Metadata metadata) {
+        this.payload = payload;
+        this.metadata = metadata;
+    }
+
+    static <T> FireAndForgetMessage<T> of(T payload) {
+        LocalContextMetadata contextMetadata = ContextAwareMessage.captureLocalContextMetadata();
+        return new FireAndForgetMessage<>(payload,
+                contextMetadata == null ? Metadata.empty() : Metadata.of(contextMetadata));
+    }
+
+    @Override
+    public T getPayload() {
+        return payload;
+    }
+
+    @Override
+    public Metadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public BiFunction<Throwable, Metadata, CompletionStage<Void>> getNackWithMetadata() {
+        return LOG_NACK;
+    }
+}
@@ -15,6 +15,11 @@ import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 
 public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEmitter<T> {
+
+    private static final Cancellable NOOP_CANCELLABLE = () -> {
+        // The message has already been emitted, nothing to cancel.
+    };
+
     public MutinyEmitterImpl(EmitterConfiguration config, long defaultBufferSize) {
         super(config, defaultBufferSize);
     }
@@ -36,8 +41,26 @@ public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEm
 
     @Override
     public Cancellable sendAndForget(T payload) {
-        return send(payload).subscribe().with(x -> {
-        }, ProviderLogging.log::failureEmittingMessage);
+        // The acknowledgement is not observed, emit directly without creating a Uni
+        try {
+            emitAndForget(payload);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            ProviderLogging.log.failureEmittingMessage(e);
+        }
+        return NOOP_CANCELLABLE;
+    }
+
+    @Override
+    public void sendAllAndForget(Iterable<? extends T> payloads) {
+        try {
+            emitAndForget(payloads);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            ProviderLogging.log.failureEmittingMessage(e);
+        }
     }
 
     @Override
@@ -10,6 +10,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.Metadata;
@@ -32,6 +33,9 @@ public class ObservationDecorator implements PublisherDecorator {
     @Inject
     ChannelRegistry registry;
 
+    @Inject
+    Instance<Config> config;
+
     @Inject
     Instance<MessageObservationCollector<?>> observationCollector;
 
@@ -42,7 +46,8 @@ public class ObservationDecorator implements PublisherDecorator {
         boolean isEmitter = registry.getEmitterNames().contains(channel);
         if (observationCollector.isResolvable() && enabled && (isConnector || isEmitter)) {
             // if this is an emitter channel than it is an outgoing channel => incoming=false
-            return decorateObservation(observationCollector.get(), multi, channel, !isEmitter, isEmitter);
+            return decorateObservation(observationCollector.get(), multi, channel, !isEmitter, isEmitter,
+                    ObservationSampler.create(config.isResolvable() ? config.get() : null, channel));
         }
         return multi;
     }
@@ -52,13 +57,18 @@ public class ObservationDecorator implements PublisherDecorator {
             Multi<? extends Message<?>> multi,
             String channel,
             boolean incoming,
-            boolean emitter) {
+            boolean emitter,
+            ObservationSampler sampler) {
         MessageObservationCollector<ObservationContext> collector = (MessageObservationCollector<ObservationContext>) obsCollector;
         ObservationContext context = collector.initObservation(channel, incoming, emitter);
         if (context == null) {
             return multi;
         }
         return multi.map(message -> {
+            if (sampler != null && !sampler.sample()) {
+                // Not sampled, skip the observation entirely
+                return message;
+            }
             MessageObservation observation = collector.onNewMessage(channel, message, context);
             if (observation != null) {
                 return message.addMetadata(observation)
@@ -0,0 +1,85 @@
+package io.smallrye.reactive.messaging.providers.extension;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * Decides which messages are observed on a channel.
+ * <p>
+ * A message is observed with the probability given by the sampling ratio. Additionally, the number of observed
+ * messages per second can be capped: once the cap is reached, messages are not observed until the next second, so the
+ * effective ratio adapts to the channel throughput.
+ */
+final class ObservationSampler {
+
+    static final String OBSERVATION_PREFIX = "smallrye.messaging.observation.";
+    static final String SAMPLING_RATIO = "sampling-ratio";
+    static final String MAX_PER_SECOND = "max-per-second";
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratio;
+    private final int maxPerSecond;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    ObservationSampler(double ratio, int maxPerSecond) {
+        this.ratio = ratio;
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Creates the sampler for the given channel, looking for the {@code sampling-ratio} and {@code max-per-second}
+     * attributes under {@code smallrye.messaging.observation.<channel>.} first, and then under
+     * {@code smallrye.messaging.observation.}.
+     *
+     * @param config the config, can be {@code null}
+     * @param channel the channel
+     * @return the sampler, {@code null} if every message must be observed
+     */
+    static ObservationSampler create(Config config, String channel) {
+        if (config == null) {
+            return null;
+        }
+        double ratio = lookup(config, channel, SAMPLING_RATIO, Double.class).orElse(1.0);
+        int max = lookup(config, channel, MAX_PER_SECOND, Integer.class).orElse(-1);
+        if (ratio >= 1.0 && max < 0) {
+            return null;
+        }
+        return new ObservationSampler(Math.max(0.0, ratio), max);
+    }
+
+    private static <T> Optional<T> lookup(Config config, String channel, String attribute, Class<T> type) {
+        if (channel != null) {
+            Optional<T> value = config.getOptionalValue(OBSERVATION_PREFIX + channel + "." + attribute, type);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return config.getOptionalValue(OBSERVATION_PREFIX + attribute, type);
+    }
+
+    /**
+     * @return {@code true} if the next message must be observed
+     */
+    boolean sample() {
+        if (ratio < 1.0 && ThreadLocalRandom.current().nextDouble() >= ratio) {
+            return false;
+        }
+        if (maxPerSecond < 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
@@ -26,6 +27,9 @@ public class OutgoingObservationDecorator implements SubscriberDecorator {
     @Inject
     ChannelRegistry registry;
 
+    @Inject
+    Instance<Config> config;
+
     @Inject
     Instance<MessageObservationCollector<?>> observationCollector;
 
@@ -35,7 +39,8 @@ public class OutgoingObservationDecorator implements SubscriberDecorator {
         String channel = channelName.isEmpty() ? null : channelName.get(0);
         boolean isEmitter = registry.getEmitterNames().contains(channel);
         if (observationCollector.isResolvable() && enabled && !isEmitter && isConnector) {
-            return decorateObservation(observationCollector.get(), multi, channel, false, false);
+            return decorateObservation(observationCollector.get(), multi, channel, false, false,
+                    ObservationSampler.create(config.isResolvable() ? config.get() : null, channel));
         }
         return multi;
     }
@@ -279,6 +279,9 @@ public interface ProviderExceptions {
     @Message(id = 87, value = "The bean %s implements a connector interface but does not use the @Connector qualifier")
     DefinitionException missingConnectorQualifier(String clazz);
 
+    @Message(id = 88, value = "Unable to emit item, the overflow buffer is still full after waiting %d ms")
+    IllegalStateException illegalStateOverflowBufferFull(long timeout);
+
     @Message(id = 1001, value = "Cannot extract the key type for the KeyedMulti parameter in %s. Make sure your set the first generic parameter of KeyedMulti<K, V>.")
     DefinitionException failedToExtractKeyType(String method);
 
@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.operators.MultiOperator;
@@ -60,9 +61,15 @@ public class ContextOperator {
 
             @Override
             public void onItem(T item) {
-                Optional<LocalContextMetadata> metadata = item.getMetadata().get(LocalContextMetadata.class);
-                if (metadata.isPresent()) {
-                    Context context = metadata.get().context();
+                Metadata metadata = item.getMetadata();
+                if (metadata == null || metadata == Metadata.empty()) {
+                    // Metadata-free message, no stored context, immediate call
+                    super.onItem(item);
+                    return;
+                }
+                Optional<LocalContextMetadata> local = metadata.get(LocalContextMetadata.class);
+                if (local.isPresent()) {
+                    Context context = local.get().context();
                     // This make the assumption that ALL the receives message belongs to the same event loop
                     // It's not the case when using multiple Kafka partitions, however this root context is only
                     // used for completion and failure event. As these are terminal events it should not matter.
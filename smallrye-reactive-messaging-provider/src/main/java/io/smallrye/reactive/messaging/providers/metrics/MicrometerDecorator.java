@@ -3,15 +3,22 @@ package io.smallrye.reactive.messaging.providers.metrics;
 import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.ChannelRegistry;
+import io.smallrye.reactive.messaging.MutinyEmitter;
 import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.providers.extension.AbstractEmitter;
 
 @ApplicationScoped
 public class MicrometerDecorator implements PublisherDecorator {
@@ -20,16 +27,46 @@ public class MicrometerDecorator implements PublisherDecorator {
     @ConfigProperty(name = "smallrye.messaging.metrics.micrometer.enabled", defaultValue = "true")
     boolean enabled;
 
+    @Inject
+    Instance<ChannelRegistry> registry;
+
     @Override
     public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher,
             String channelName, boolean isConnector) {
         if (enabled) {
+            if (!isConnector) {
+                registerOverflowBufferGauges(channelName);
+            }
             return publisher.invoke(incrementCount(channelName));
         } else {
             return publisher;
         }
     }
 
+    private void registerOverflowBufferGauges(String channelName) {
+        if (channelName == null || !registry.isResolvable()) {
+            return;
+        }
+        ChannelRegistry channels = registry.get();
+        Object emitter = channels.getEmitter(channelName, Emitter.class);
+        if (emitter == null) {
+            emitter = channels.getEmitter(channelName, MutinyEmitter.class);
+        }
+        if (emitter instanceof AbstractEmitter && ((AbstractEmitter<?>) emitter).getOverflowBufferCapacity() >= 0) {
+            AbstractEmitter<?> buffered = (AbstractEmitter<?>) emitter;
+            Gauge.builder("mp.messaging.emitter.buffer.size", buffered, AbstractEmitter::getOverflowBufferSize)
+                    .tag("channel", channelName)
+                    .register(Metrics.globalRegistry);
+            Gauge.builder("mp.messaging.emitter.buffer.capacity", buffered, AbstractEmitter::getOverflowBufferCapacity)
+                    .tag("channel", channelName)
+                    .register(Metrics.globalRegistry);
+            FunctionCounter.builder("mp.messaging.emitter.buffer.dropped", buffered,
+                    AbstractEmitter::getOverflowBufferDropped)
+                    .tag("channel", channelName)
+                    .register(Metrics.globalRegistry);
+        }
+    }
+
     private Consumer<Message<?>> incrementCount(String channelName) {
         Counter counter = Metrics.counter("mp.messaging.message.count", "channel", channelName);
         return m -> counter.increment();
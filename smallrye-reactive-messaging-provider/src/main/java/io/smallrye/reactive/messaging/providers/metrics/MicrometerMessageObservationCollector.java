@@ -0,0 +1,128 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.reactive.messaging.observation.DefaultMessageObservation;
+import io.smallrye.reactive.messaging.observation.MessageObservation;
+import io.smallrye.reactive.messaging.observation.MessageObservationCollector;
+import io.smallrye.reactive.messaging.observation.ObservationContext;
+
+/**
+ * A {@link MessageObservationCollector} recording message-level metrics with Micrometer.
+ * <p>
+ * For each observed channel, it records:
+ * <ul>
+ * <li>{@code mp.messaging.message.duration}: the processing duration of messages, from their creation to their
+ * acknowledgement or negative-acknowledgement, tagged with the {@code outcome} ({@code ack} or {@code nack}),</li>
+ * <li>{@code mp.messaging.message.in-flight}: the number of messages created but not yet acknowledged,</li>
+ * <li>{@code mp.messaging.message.acks}: the number of acknowledged messages,</li>
+ * <li>{@code mp.messaging.message.failures}: the number of negatively-acknowledged messages, tagged with the
+ * {@code failure} class.</li>
+ * </ul>
+ * All meters are tagged with the {@code channel} name and the channel {@code direction}.
+ * <p>
+ * This class is not a CDI bean, as only one collector can be active. To enable it, expose a bean extending it:
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * public class MyCollector extends MicrometerMessageObservationCollector {
+ * }
+ * </pre>
+ */
+public class MicrometerMessageObservationCollector
+        implements MessageObservationCollector<MicrometerMessageObservationCollector.MetricsContext> {
+
+    private final MeterRegistry registry;
+
+    public MicrometerMessageObservationCollector() {
+        this(Metrics.globalRegistry);
+    }
+
+    public MicrometerMessageObservationCollector(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public MetricsContext initObservation(String channel, boolean incoming, boolean emitter) {
+        return new MetricsContext(registry, channel, incoming);
+    }
+
+    @Override
+    public MessageObservation onNewMessage(String channel, Message<?> message, MetricsContext context) {
+        context.inFlight.increment();
+        return new DefaultMessageObservation(channel);
+    }
+
+    /**
+     * The per-channel meters.
+     */
+    public static class MetricsContext implements ObservationContext {
+
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final LongAdder inFlight = new LongAdder();
+        private final Timer ackDuration;
+        private final Timer nackDuration;
+        private final Counter acks;
+        private final Map<Class<?>, Counter> failures = new ConcurrentHashMap<>();
+
+        MetricsContext(MeterRegistry registry, String channel, boolean incoming) {
+            this.registry = registry;
+            this.tags = Tags.of("channel", channel, "direction", incoming ? "incoming" : "outgoing");
+            this.ackDuration = Timer.builder("mp.messaging.message.duration")
+                    .description("The processing duration of messages, from their creation to their acknowledgement")
+                    .tags(tags).tag("outcome", "ack")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.nackDuration = Timer.builder("mp.messaging.message.duration")
+                    .description("The processing duration of messages, from their creation to their acknowledgement")
+                    .tags(tags).tag("outcome", "nack")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.acks = Counter.builder("mp.messaging.message.acks")
+                    .description("The number of acknowledged messages")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("mp.messaging.message.in-flight", inFlight, LongAdder::sum)
+                    .description("The number of messages created but not acknowledged yet")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        @Override
+        public void complete(MessageObservation observation) {
+            inFlight.decrement();
+            long duration = observation.getCompletionTime() - observation.getCreationTime();
+            Throwable reason = observation.getReason();
+            if (reason == null) {
+                acks.increment();
+                ackDuration.record(duration, TimeUnit.NANOSECONDS);
+            } else {
+                failures.computeIfAbsent(reason.getClass(), this::failureCounter).increment();
+                nackDuration.record(duration, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Counter failureCounter(Class<?> failure) {
+            return Counter.builder("mp.messaging.message.failures")
+                    .description("The number of negatively acknowledged messages")
+                    .tags(tags).tag("failure", failure.getName())
+                    .register(registry);
+        }
+
+        public long getInFlight() {
+            return inFlight.sum();
+        }
+    }
+}
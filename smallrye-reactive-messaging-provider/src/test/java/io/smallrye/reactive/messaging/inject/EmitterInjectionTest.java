@@ -7,6 +7,7 @@ import static org.awaitility.Awaitility.await;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -47,6 +48,16 @@ public class EmitterInjectionTest extends WeldTestBaseWithoutTails {
         assertThat(bean.emitter().hasRequests()).isFalse();
     }
 
+    @Test
+    public void testWithPayloadsSentAndForgotten() {
+        final MyBeanEmittingPayloadsAndForget bean = installInitializeAndGet(MyBeanEmittingPayloadsAndForget.class);
+        bean.run();
+        assertThat(bean.list()).containsExactly("a", "b", "c", "d", "e");
+        assertThat(bean.emitter().isCancelled()).isTrue();
+        assertThatThrownBy(() -> bean.emitter().sendAll(Arrays.asList("f", null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     public void testMultipleEmitterInjection() {
         final MultipleEmitterInjection bean = installInitializeAndGet(MultipleEmitterInjection.class);
@@ -283,6 +294,34 @@ public class EmitterInjectionTest extends WeldTestBaseWithoutTails {
         }
     }
 
+    @ApplicationScoped
+    public static class MyBeanEmittingPayloadsAndForget {
+        @Inject
+        @Channel("foo")
+        Emitter<String> emitter;
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        public Emitter<String> emitter() {
+            return emitter;
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        public void run() {
+            emitter.sendAndForget("a");
+            emitter.sendAll(List.of("b", "c", "d"));
+            emitter.sendAndForget("e");
+            emitter.complete();
+        }
+
+        @Incoming("foo")
+        public void consume(final String s) {
+            list.add(s);
+        }
+    }
+
     @ApplicationScoped
     public static class MultipleEmitterInjection {
         @Inject
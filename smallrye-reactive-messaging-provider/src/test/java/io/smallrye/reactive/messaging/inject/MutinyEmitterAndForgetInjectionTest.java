@@ -50,6 +50,18 @@ public class MutinyEmitterAndForgetInjectionTest extends WeldTestBaseWithoutTail
         assertThat(bean.emitter().hasRequests()).isFalse();
     }
 
+    @Test
+    public void testWithBatchOfPayloads() {
+        final MyBeanEmittingBatchOfPayloads bean = installInitializeAndGet(MyBeanEmittingBatchOfPayloads.class);
+        bean.run();
+        assertThat(bean.list()).containsExactly("a", "b", "c", "d");
+        assertThat(bean.emitter().isCancelled()).isTrue();
+        // Emitting after termination is logged, not thrown
+        bean.emitter().sendAllAndForget(List.of("e", "f"));
+        assertThat(bean.list()).containsExactly("a", "b", "c", "d");
+        assertThat(logCapture.records()).isNotEmpty();
+    }
+
     @Test
     public void testWithMessages() {
         final MyBeanEmittingMessages bean = installInitializeAndGet(MyBeanEmittingMessages.class);
@@ -212,6 +224,33 @@ public class MutinyEmitterAndForgetInjectionTest extends WeldTestBaseWithoutTail
         }
     }
 
+    @ApplicationScoped
+    public static class MyBeanEmittingBatchOfPayloads {
+        @Inject
+        @Channel("foo")
+        MutinyEmitter<String> emitter;
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        public MutinyEmitter<String> emitter() {
+            return emitter;
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        public void run() {
+            emitter.sendAllAndForget(List.of("a", "b", "c"));
+            emitter.sendAndForget("d");
+            emitter.complete();
+        }
+
+        @Incoming("foo")
+        public void consume(final String s) {
+            list.add(s);
+        }
+    }
+
     @ApplicationScoped
     public static class MyBeanEmittingMessages {
         @Inject
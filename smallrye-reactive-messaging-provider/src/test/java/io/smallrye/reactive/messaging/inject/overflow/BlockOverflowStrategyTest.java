@@ -0,0 +1,213 @@
+package io.smallrye.reactive.messaging.inject.overflow;
+
+import static io.smallrye.reactive.messaging.annotations.EmitterFactoryFor.Literal.EMITTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.reactive.messaging.EmitterConfiguration;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.providers.DefaultEmitterConfiguration;
+import io.smallrye.reactive.messaging.providers.extension.EmitterImpl;
+import io.vertx.core.Vertx;
+
+public class BlockOverflowStrategyTest extends WeldTestBaseWithoutTails {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testNormal() {
+        BeanUsingBlockOverflowStrategy bean = installInitializeAndGet(BeanUsingBlockOverflowStrategy.class);
+        bean.emitThree();
+
+        await().until(() -> bean.output().size() == 3);
+        assertThat(bean.output()).containsExactly("1", "2", "3");
+        assertThat(bean.exception()).isNull();
+    }
+
+    @Test
+    public void testOverflow() {
+        BeanUsingBlockOverflowStrategy bean = installInitializeAndGet(BeanUsingBlockOverflowStrategy.class);
+        bean.emitALotOfItems();
+
+        await().until(bean::isAllDone);
+        // The caller is blocked instead of losing items
+        assertThat(bean.output()).containsExactlyElementsOf(
+                IntStream.range(1, 200).mapToObj(Integer::toString).collect(Collectors.toList()));
+        assertThat(bean.failure()).isNull();
+        assertThat(bean.exception()).isNull();
+    }
+
+    @Test
+    public void testBufferedMessagesAreNackedOnCancellation() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.BLOCK, 4), 128);
+        AssertSubscriber<Message<? extends String>> subscriber = subscribe(emitter);
+        CompletableFuture<Void> first = emitter.send("1").toCompletableFuture();
+        CompletableFuture<Void> second = emitter.send("2").toCompletableFuture();
+
+        subscriber.cancel();
+
+        await().until(() -> first.isCompletedExceptionally() && second.isCompletedExceptionally());
+        assertThat(subscriber.getItems()).isEmpty();
+    }
+
+    @Test
+    public void testWaitingCallerDoesNotBlockTheEventLoop() throws Exception {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.BLOCK, 2), 128);
+        AssertSubscriber<Message<? extends String>> subscriber = subscribe(emitter);
+        emitter.send("1");
+        emitter.send("2");
+
+        // The buffer is full, the worker waits for a free slot
+        Thread worker = new Thread(() -> emitter.send("3"));
+        worker.start();
+        await().until(() -> worker.getState() == Thread.State.TIMED_WAITING);
+
+        // The event loop must fail immediately instead of waiting for the lock held during the wait
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<Throwable> onEventLoop = new CompletableFuture<>();
+            vertx.runOnContext(x -> {
+                try {
+                    emitter.send("4");
+                    onEventLoop.complete(null);
+                } catch (Throwable t) {
+                    onEventLoop.complete(t);
+                }
+            });
+            assertThat(onEventLoop.get(2, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+
+        subscriber.request(3);
+        worker.join(5000);
+        assertThat(subscriber.getItems()).extracting(m -> (String) m.getPayload()).containsExactly("1", "2", "3");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AssertSubscriber<Message<? extends String>> subscribe(EmitterImpl<String> emitter) {
+        return Multi.createFrom().publisher(emitter.getPublisher())
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+    }
+
+    private static EmitterConfiguration configuration(OnOverflow.Strategy strategy, int bufferSize) {
+        OnOverflow onOverflow = mock(OnOverflow.class);
+        when(onOverflow.value()).thenReturn(strategy);
+        when(onOverflow.bufferSize()).thenReturn((long) bufferSize);
+        return new DefaultEmitterConfiguration("hello", EMITTER, onOverflow, null);
+    }
+
+    @ApplicationScoped
+    public static class BeanUsingBlockOverflowStrategy {
+
+        @Inject
+        @Channel("hello")
+        @OnOverflow(value = OnOverflow.Strategy.BLOCK, bufferSize = 4)
+        Emitter<String> emitter;
+
+        private final List<String> output = new CopyOnWriteArrayList<>();
+
+        private volatile Throwable downstreamFailure;
+        private volatile boolean done;
+        private volatile boolean consumptionCompleted;
+
+        private Exception callerException;
+
+        private final Scheduler scheduler = Schedulers.from(executor);
+
+        public List<String> output() {
+            return output;
+        }
+
+        public Throwable failure() {
+            return downstreamFailure;
+        }
+
+        public Exception exception() {
+            return callerException;
+        }
+
+        public void emitThree() {
+            try {
+                emitter.send("1");
+                emitter.send("2");
+                emitter.send("3");
+            } catch (Exception e) {
+                callerException = e;
+            } finally {
+                emitter.complete();
+            }
+        }
+
+        public void emitALotOfItems() {
+            new Thread(() -> {
+                try {
+                    for (int i = 1; i < 200; i++) {
+                        emitter.send("" + i);
+                    }
+                } catch (Exception e) {
+                    callerException = e;
+                } finally {
+                    emitter.complete();
+                    done = true;
+                }
+            }).start();
+        }
+
+        @Incoming("hello")
+        @Outgoing("out")
+        public Flowable<String> consume(Flowable<String> values) {
+            return values
+                    .observeOn(scheduler)
+                    .delay(1, TimeUnit.MILLISECONDS, scheduler)
+                    .doOnError(err -> {
+                        downstreamFailure = err;
+                    })
+                    .doOnComplete(() -> consumptionCompleted = true);
+        }
+
+        @Incoming("out")
+        public void out(String s) {
+            output.add(s);
+        }
+
+        public boolean isAllDone() {
+            return done && consumptionCompleted;
+        }
+
+    }
+}
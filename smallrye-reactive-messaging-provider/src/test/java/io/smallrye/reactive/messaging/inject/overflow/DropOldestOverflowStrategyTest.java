@@ -0,0 +1,192 @@
+package io.smallrye.reactive.messaging.inject.overflow;
+
+import static io.smallrye.reactive.messaging.annotations.EmitterFactoryFor.Literal.EMITTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.reactive.messaging.EmitterConfiguration;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.providers.DefaultEmitterConfiguration;
+import io.smallrye.reactive.messaging.providers.extension.EmitterImpl;
+
+public class DropOldestOverflowStrategyTest extends WeldTestBaseWithoutTails {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testNormal() {
+        BeanUsingDropOldestOverflowStrategy bean = installInitializeAndGet(BeanUsingDropOldestOverflowStrategy.class);
+        bean.emitThree();
+
+        await().until(() -> bean.output().size() == 3);
+        assertThat(bean.output()).containsExactly("1", "2", "3");
+        assertThat(bean.exception()).isNull();
+        assertThat(bean.nacked()).hasValue(0);
+    }
+
+    @Test
+    public void testOverflow() {
+        BeanUsingDropOldestOverflowStrategy bean = installInitializeAndGet(BeanUsingDropOldestOverflowStrategy.class);
+        bean.emitALotOfItems();
+
+        await().until(bean::isAllDone);
+        // The most recent items are kept
+        assertThat(bean.output()).contains("999").hasSizeLessThan(999);
+        assertThat(bean.failure()).isNull();
+        assertThat(bean.exception()).isNull();
+        await().untilAsserted(() -> assertThat(bean.nacked().get() + bean.output().size()).isEqualTo(999));
+    }
+
+    @Test
+    public void testBufferedMessagesAreNackedOnCancellation() {
+        EmitterImpl<String> emitter = new EmitterImpl<>(configuration(OnOverflow.Strategy.DROP_OLDEST, 4), 128);
+        AssertSubscriber<Message<? extends String>> subscriber = subscribe(emitter);
+        CompletableFuture<Void> first = emitter.send("1").toCompletableFuture();
+        CompletableFuture<Void> second = emitter.send("2").toCompletableFuture();
+
+        subscriber.cancel();
+
+        await().until(() -> first.isCompletedExceptionally() && second.isCompletedExceptionally());
+        assertThat(subscriber.getItems()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AssertSubscriber<Message<? extends String>> subscribe(EmitterImpl<String> emitter) {
+        return Multi.createFrom().publisher(emitter.getPublisher())
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+    }
+
+    private static EmitterConfiguration configuration(OnOverflow.Strategy strategy, int bufferSize) {
+        OnOverflow onOverflow = mock(OnOverflow.class);
+        when(onOverflow.value()).thenReturn(strategy);
+        when(onOverflow.bufferSize()).thenReturn((long) bufferSize);
+        return new DefaultEmitterConfiguration("hello", EMITTER, onOverflow, null);
+    }
+
+    @ApplicationScoped
+    public static class BeanUsingDropOldestOverflowStrategy {
+
+        @Inject
+        @Channel("hello")
+        @OnOverflow(value = OnOverflow.Strategy.DROP_OLDEST, bufferSize = 4)
+        Emitter<String> emitter;
+
+        private final List<String> output = new CopyOnWriteArrayList<>();
+        private final AtomicInteger nacked = new AtomicInteger();
+
+        private volatile Throwable downstreamFailure;
+        private volatile boolean done;
+        private volatile boolean consumptionCompleted;
+
+        private Exception callerException;
+
+        private final Scheduler scheduler = Schedulers.from(executor);
+
+        public List<String> output() {
+            return output;
+        }
+
+        public AtomicInteger nacked() {
+            return nacked;
+        }
+
+        public Throwable failure() {
+            return downstreamFailure;
+        }
+
+        public Exception exception() {
+            return callerException;
+        }
+
+        public void emitThree() {
+            try {
+                send("1");
+                send("2");
+                send("3");
+            } catch (Exception e) {
+                callerException = e;
+            } finally {
+                emitter.complete();
+            }
+        }
+
+        public void emitALotOfItems() {
+            new Thread(() -> {
+                try {
+                    for (int i = 1; i < 1000; i++) {
+                        send("" + i);
+                    }
+                } catch (Exception e) {
+                    callerException = e;
+                } finally {
+                    emitter.complete();
+                    done = true;
+                }
+            }).start();
+        }
+
+        private void send(String payload) {
+            CompletionStage<Void> stage = emitter.send(payload);
+            stage.exceptionally(t -> {
+                nacked.incrementAndGet();
+                return null;
+            });
+        }
+
+        @Incoming("hello")
+        @Outgoing("out")
+        public Flowable<String> consume(Flowable<String> values) {
+            return values
+                    .observeOn(scheduler)
+                    .delay(1, TimeUnit.MILLISECONDS, scheduler)
+                    .doOnError(err -> {
+                        downstreamFailure = err;
+                    })
+                    .doOnComplete(() -> consumptionCompleted = true);
+        }
+
+        @Incoming("out")
+        public void out(String s) {
+            output.add(s);
+        }
+
+        public boolean isAllDone() {
+            return done && consumptionCompleted;
+        }
+
+    }
+}
@@ -70,6 +70,7 @@ public class ObservationTest extends WeldTestBaseWithoutTails {
 
         await().until(() -> observation.getObservations().size() == 3);
         await().until(() -> consumer.received().size() == 3);
+        assertThat(consumer.unobserved()).isEmpty();
 
         assertThat(observation.getObservations()).allSatisfy(obs -> {
             assertThat(obs.getCreationTime()).isNotEqualTo(-1);
@@ -163,6 +164,25 @@ public class ObservationTest extends WeldTestBaseWithoutTails {
         });
     }
 
+    @Test
+    void testSampledMessageObservation() {
+        installConfig("src/test/resources/config/observation-sampled.properties");
+        addBeanClass(MyMessageObservationCollector.class);
+        addBeanClass(MyMessageConsumer.class);
+        addBeanClass(MyPayloadProducer.class);
+
+        initialize();
+
+        MyMessageObservationCollector observation = container.select(MyMessageObservationCollector.class).get();
+        MyMessageConsumer consumer = container.select(MyMessageConsumer.class).get();
+
+        await().until(() -> consumer.received().size() == 3);
+        // Channel A is not sampled, channel B is capped to 2 messages per second
+        await().until(() -> observation.getObservations().size() == 2);
+        assertThat(observation.getObservations()).allSatisfy(obs -> assertThat(obs.getChannel()).isEqualTo("B"));
+        assertThat(consumer.unobserved()).hasSize(3);
+    }
+
     @ApplicationScoped
     public static class MyPayloadConsumer {
         private final List<Integer> received = new CopyOnWriteArrayList<>();
@@ -188,12 +208,15 @@ public class ObservationTest extends WeldTestBaseWithoutTails {
     public static class MyMessageConsumer {
 
         private final List<Integer> received = new CopyOnWriteArrayList<>();
+        private final List<Integer> unobserved = new CopyOnWriteArrayList<>();
 
         @Incoming("A")
         CompletionStage<Void> consume(Message<Integer> msg) {
             int payload = msg.getPayload();
             received.add(payload);
-            assertThat(msg.getMetadata(MessageObservation.class)).isNotEmpty();
+            if (msg.getMetadata(MessageObservation.class).isEmpty()) {
+                unobserved.add(payload);
+            }
             if (payload == 3) {
                 return msg.nack(new IOException());
             }
@@ -206,6 +229,10 @@ public class ObservationTest extends WeldTestBaseWithoutTails {
         public List<Integer> received() {
             return received;
         }
+
+        public List<Integer> unobserved() {
+            return unobserved;
+        }
     }
 
     @ApplicationScoped
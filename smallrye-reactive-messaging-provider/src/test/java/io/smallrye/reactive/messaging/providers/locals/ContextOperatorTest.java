@@ -0,0 +1,90 @@
+package io.smallrye.reactive.messaging.providers.locals;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+class ContextOperatorTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    void testMessagesWithoutMetadataAreDispatchedInline() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Message<Integer>> subscriber = ContextOperator
+                .apply(Multi.createFrom().range(0, 5).map(Message::of))
+                .invoke(m -> threads.add(Thread.currentThread()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(5);
+        assertThat(threads).hasSize(5).allMatch(t -> t == caller);
+    }
+
+    @Test
+    void testMessagesAreDispatchedOnTheirContext() {
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        List<Context> contexts = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Message<Integer>> subscriber = ContextOperator
+                .apply(Multi.createFrom().range(0, 5)
+                        .map(i -> Message.of(i).addMetadata(new LocalContextMetadata(context))))
+                .invoke(m -> contexts.add(Vertx.currentContext()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(5);
+        assertThat(contexts).hasSize(5).allMatch(c -> c == context);
+    }
+
+    @Test
+    void testMessagesWithNullMetadataAreDispatchedInline() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        AssertSubscriber<Message<Integer>> subscriber = ContextOperator
+                .apply(Multi.createFrom().range(0, 5).map(ContextOperatorTest::withoutMetadata))
+                .invoke(m -> threads.add(Thread.currentThread()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).extracting(Message::getPayload).containsExactly(0, 1, 2, 3, 4);
+        assertThat(threads).hasSize(5).allMatch(t -> t == caller);
+    }
+
+    private static Message<Integer> withoutMetadata(int payload) {
+        return new Message<>() {
+            @Override
+            public Integer getPayload() {
+                return payload;
+            }
+
+            @Override
+            public Metadata getMetadata() {
+                return null;
+            }
+        };
+    }
+}
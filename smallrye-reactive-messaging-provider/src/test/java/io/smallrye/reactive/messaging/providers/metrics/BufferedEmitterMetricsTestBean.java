@@ -0,0 +1,60 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+@ApplicationScoped
+public class BufferedEmitterMetricsTestBean {
+
+    @Inject
+    @Channel("buffered")
+    @OnOverflow(value = OnOverflow.Strategy.DROP_OLDEST, bufferSize = 4)
+    Emitter<String> emitter;
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    public void send(int count) {
+        for (int i = 0; i < count; i++) {
+            emitter.send("" + i);
+        }
+    }
+
+    @Incoming("buffered")
+    public Flow.Subscriber<String> consume() {
+        return new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                // Request a single item, the other ones stay in the overflow buffer
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(String item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                // ignore
+            }
+
+            @Override
+            public void onComplete() {
+                // ignore
+            }
+        };
+    }
+
+    public List<String> received() {
+        return received;
+    }
+}
@@ -68,6 +68,25 @@ public class MicrometerDecoratorTest extends WeldTestBase {
         assertEquals(MetricsTestBean.TEST_MESSAGES.size() * 2, getCounter("sink").count());
     }
 
+    @Test
+    public void testOverflowBufferMetrics() {
+        releaseConfig();
+        addBeanClass(BufferedEmitterMetricsTestBean.class);
+        initialize();
+
+        BufferedEmitterMetricsTestBean bean = container.select(BufferedEmitterMetricsTestBean.class).get();
+        bean.send(10);
+
+        // One item is consumed, the buffer keeps the 4 most recent ones and the others are dropped
+        await().until(() -> bean.received().size() == 1);
+        assertEquals(4, Metrics.globalRegistry.get("mp.messaging.emitter.buffer.size")
+                .tag("channel", "buffered").gauge().value());
+        assertEquals(4, Metrics.globalRegistry.get("mp.messaging.emitter.buffer.capacity")
+                .tag("channel", "buffered").gauge().value());
+        assertEquals(5, Metrics.globalRegistry.get("mp.messaging.emitter.buffer.dropped")
+                .tag("channel", "buffered").functionCounter().count());
+    }
+
     private Counter getCounter(String channelName) {
         return Metrics.counter("mp.messaging.message.count", "channel", channelName);
     }
@@ -0,0 +1,86 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+public class MicrometerMessageObservationCollectorTest extends WeldTestBaseWithoutTails {
+
+    static final MeterRegistry REGISTRY = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setupConfig() {
+        REGISTRY.clear();
+        installConfig("src/test/resources/config/observation.properties");
+    }
+
+    @Test
+    void testMessageMetrics() {
+        addBeanClass(MyCollector.class);
+        addBeanClass(MyPayloadConsumer.class);
+
+        initialize();
+
+        MyPayloadConsumer consumer = container.select(MyPayloadConsumer.class).get();
+        await().until(() -> consumer.received().size() == 3);
+
+        await().untilAsserted(() -> {
+            assertThat(REGISTRY.get("mp.messaging.message.acks").tag("channel", "A").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(REGISTRY.get("mp.messaging.message.failures").tag("channel", "A")
+                    .tag("failure", IOException.class.getName()).counter().count()).isEqualTo(1.0);
+            assertThat(REGISTRY.get("mp.messaging.message.failures").tag("channel", "A")
+                    .tag("failure", MalformedURLException.class.getName()).counter().count()).isEqualTo(1.0);
+        });
+
+        Timer acked = REGISTRY.get("mp.messaging.message.duration").tag("channel", "A").tag("outcome", "ack").timer();
+        Timer nacked = REGISTRY.get("mp.messaging.message.duration").tag("channel", "A").tag("outcome", "nack")
+                .timer();
+        assertThat(acked.count()).isEqualTo(1);
+        assertThat(nacked.count()).isEqualTo(2);
+        assertThat(REGISTRY.get("mp.messaging.message.in-flight").tag("channel", "A")
+                .tag("direction", "incoming").gauge().value()).isEqualTo(0.0);
+    }
+
+    @ApplicationScoped
+    public static class MyCollector extends MicrometerMessageObservationCollector {
+        public MyCollector() {
+            super(REGISTRY);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MyPayloadConsumer {
+        private final List<Integer> received = new CopyOnWriteArrayList<>();
+
+        @Incoming("A")
+        void consume(int payload) throws IOException {
+            received.add(payload);
+            if (payload == 3) {
+                throw new IOException();
+            }
+            if (payload == 4) {
+                throw new MalformedURLException();
+            }
+        }
+
+        public List<Integer> received() {
+            return received;
+        }
+    }
+}
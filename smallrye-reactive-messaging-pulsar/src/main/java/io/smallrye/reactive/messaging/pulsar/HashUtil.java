@@ -4,6 +4,8 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import org.apache.pulsar.common.util.Murmur3_32Hash;
+
 final class HashUtil {
 
     private HashUtil() {
@@ -26,4 +28,8 @@ final class HashUtil {
             throw new IllegalStateException(e);
         }
     }
+
+    static int murmur3(byte[] value) {
+        return Murmur3_32Hash.getInstance().makeHash(value);
+    }
 }
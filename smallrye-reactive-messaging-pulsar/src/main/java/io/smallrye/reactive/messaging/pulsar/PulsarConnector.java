@@ -52,7 +52,9 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "tracing-enabled", type = "boolean", direction = ConnectorAttribute.Direction.INCOMING_AND_OUTGOING, description = "Whether tracing is enabled (default) or disabled", defaultValue = "true")
 
 @ConnectorAttribute(name = "consumer-configuration", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Identifier of a CDI bean that provides the default Pulsar consumer configuration for this channel. The channel configuration can still override any attribute. The bean must have a type of Map<String, Object> and must use the @io.smallrye.common.annotation.Identifier qualifier to set the identifier.")
-@ConnectorAttribute(name = "ack-strategy", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Specify the commit strategy to apply when a message produced from a record is acknowledged. Values can be `ack`, `cumulative`.", defaultValue = "ack")
+@ConnectorAttribute(name = "ack-strategy", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Specify the commit strategy to apply when a message produced from a record is acknowledged. Values can be `ack`, `cumulative`, `batch`.", defaultValue = "ack")
+@ConnectorAttribute(name = "ack-batch-size", type = "int", direction = ConnectorAttribute.Direction.INCOMING, description = "The number of message acknowledgements sent at once by the `batch` ack-strategy", defaultValue = "100")
+@ConnectorAttribute(name = "ack-batch-interval", type = "long", direction = ConnectorAttribute.Direction.INCOMING, description = "The maximum delay, in milliseconds, before the `batch` ack-strategy sends the pending message acknowledgements", defaultValue = "100")
 @ConnectorAttribute(name = "failure-strategy", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Specify the failure strategy to apply when a message produced from a record is acknowledged negatively (nack). Values can be `nack` (default), `fail`, `ignore` or `reconsume-later", defaultValue = "nack")
 @ConnectorAttribute(name = "reconsumeLater.delay", type = "long", direction = ConnectorAttribute.Direction.INCOMING, description = "Default delay for reconsume failure-strategy, in seconds", defaultValue = "3")
 @ConnectorAttribute(name = "negativeAck.redeliveryBackoff", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Comma separated values for configuring negative ack MultiplierRedeliveryBackoff, min delay, max delay, multiplier.")
@@ -62,6 +64,8 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "deadLetterPolicy.retryLetterTopic", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Name of the retry topic where the failing messages will be sent")
 @ConnectorAttribute(name = "deadLetterPolicy.initialSubscriptionName", type = "string", direction = ConnectorAttribute.Direction.INCOMING, description = "Name of the initial subscription name of the dead letter topic")
 @ConnectorAttribute(name = "batchReceive", type = "boolean", direction = ConnectorAttribute.Direction.INCOMING, description = "Whether batch receive is used to consume messages", defaultValue = "false")
+@ConnectorAttribute(name = "max-queue-size", type = "int", direction = ConnectorAttribute.Direction.INCOMING, description = "The maximum number of received messages buffered by the channel before pausing the consumer. The consumer is resumed when the buffer is half-empty", defaultValue = "1000")
+@ConnectorAttribute(name = "key-ordered-lanes", type = "int", direction = ConnectorAttribute.Direction.INCOMING, description = "The number of lanes to which messages are dispatched by key. When set, a message is only emitted once the previous message with the same key has been acknowledged, so messages with different keys can be processed concurrently, e.g. with `@Blocking(ordered = false)`, while messages with the same key are processed in order. Not supported with `batchReceive`")
 
 @ConnectorAttribute(name = "producer-configuration", type = "string", direction = ConnectorAttribute.Direction.OUTGOING, description = "Identifier of a CDI bean that provides the default Pulsar producer configuration for this channel. The channel configuration can still override any attribute. The bean must have a type of Map<String, Object> and must use the @io.smallrye.common.annotation.Identifier qualifier to set the identifier.")
 @ConnectorAttribute(name = "maxPendingMessages", type = "int", direction = ConnectorAttribute.Direction.OUTGOING, description = "The maximum size of a queue holding pending messages, i.e messages waiting to receive an acknowledgment from a broker", defaultValue = "1000")
@@ -1,10 +1,12 @@
 package io.smallrye.reactive.messaging.pulsar;
 
+import static io.smallrye.reactive.messaging.pulsar.i18n.PulsarExceptions.ex;
 import static io.smallrye.reactive.messaging.pulsar.i18n.PulsarLogging.log;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,7 +27,6 @@ import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttr
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttributesGetter;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingSpanNameExtractor;
 import io.smallrye.mutiny.Multi;
-import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.health.HealthReport;
 import io.smallrye.reactive.messaging.pulsar.tracing.PulsarAttributesExtractor;
 import io.smallrye.reactive.messaging.pulsar.tracing.PulsarTrace;
@@ -109,20 +110,24 @@ public class PulsarIncomingChannel<T> {
         this.ackHandler = ackHandlerFactory.create(consumer, ic);
         this.failureHandler = failureHandlerFactory.create(consumer, ic, this::reportFailure);
         this.context = ((VertxInternal) vertx.getDelegate()).createEventLoopContext();
+        int maxQueueSize = ic.getMaxQueueSize();
+        if (maxQueueSize <= 0) {
+            throw ex.illegalArgumentInvalidMaxQueueSize(maxQueueSize);
+        }
+        // Calling getValue on the pulsar-client-internal thread to make sure the SchemaInfo is fetched
+        boolean fetchSchemaInfo = schema instanceof AutoConsumeSchema || schema instanceof KeyValueSchema;
+        PulsarKeyOrderedLanes lanes = getKeyOrderedLanes(ic);
         if (!ic.getBatchReceive()) {
-            Multi<PulsarIncomingMessage<T>> receiveMulti = Multi.createBy().repeating()
-                    .completionStage(consumer::receiveAsync)
-                    .until(m -> closed.get())
-                    .plug(msgMulti -> {
-                        // Calling getValue on the pulsar-client-internal thread to make sure the SchemaInfo is fetched
-                        if (schema instanceof AutoConsumeSchema || schema instanceof KeyValueSchema) {
-                            return msgMulti.onItem().call(msg -> Uni.createFrom().item(msg::getValue));
-                        } else {
-                            return msgMulti;
+            Multi<PulsarIncomingMessage<T>> receiveMulti = Multi.createFrom().publisher(new PulsarReceiveStream<>(consumer,
+                    channel, context, consumer::receiveAsync, msg -> {
+                        if (fetchSchemaInfo) {
+                            msg.getValue();
                         }
-                    })
-                    .emitOn(command -> context.runOnContext(event -> command.run()))
-                    .onItem().transform(message -> new PulsarIncomingMessage<>(message, ackHandler, failureHandler))
+                    }, msg -> 1, maxQueueSize))
+                    .plug(messages -> lanes == null
+                            ? messages.onItem().transform(message -> new PulsarIncomingMessage<>(message, ackHandler,
+                                    failureHandler))
+                            : lanes.dispatch(messages))
                     .onFailure(throwable -> isEndOfStream(client, throwable)).recoverWithCompletion()
                     .onFailure().invoke(failure -> {
                         log.failedToReceiveFromConsumer(channel, failure);
@@ -133,22 +138,13 @@ public class PulsarIncomingChannel<T> {
             }
             this.publisher = receiveMulti;
         } else {
-            Multi<PulsarIncomingBatchMessage<T>> batchReceiveMulti = Multi.createBy().repeating()
-                    .completionStage(consumer::batchReceiveAsync)
-                    .until(m -> closed.get())
-                    .filter(m -> m.size() > 0)
-                    .plug(msgMulti -> {
-                        // Calling getValue on the pulsar-client-internal thread to make sure the SchemaInfo is fetched
-                        if (schema instanceof AutoConsumeSchema || schema instanceof KeyValueSchema) {
-                            return msgMulti.onItem().call(msg -> Uni.createFrom().item(() -> {
-                                msg.forEach(m -> m.getValue());
-                                return null;
-                            }));
-                        } else {
-                            return msgMulti;
+            Multi<Messages<T>> receiveMulti = Multi.createFrom().publisher(new PulsarReceiveStream<>(consumer,
+                    channel, context, consumer::batchReceiveAsync, msg -> {
+                        if (fetchSchemaInfo) {
+                            msg.forEach(m -> m.getValue());
                         }
-                    })
-                    .emitOn(command -> context.runOnContext(event -> command.run()))
+                    }, Messages::size, maxQueueSize));
+            Multi<PulsarIncomingBatchMessage<T>> batchReceiveMulti = receiveMulti
                     .onItem().transform(m -> new PulsarIncomingBatchMessage<>(m, ackHandler, failureHandler))
                     .onFailure(throwable -> isEndOfStream(client, throwable)).recoverWithCompletion()
                     .onFailure().invoke(failure -> {
@@ -189,6 +185,21 @@ public class PulsarIncomingChannel<T> {
         }
     }
 
+    private PulsarKeyOrderedLanes getKeyOrderedLanes(PulsarConnectorIncomingConfiguration ic) {
+        Optional<Integer> lanes = ic.getKeyOrderedLanes();
+        if (lanes.isEmpty()) {
+            return null;
+        }
+        if (lanes.get() <= 0) {
+            throw ex.illegalArgumentInvalidKeyOrderedLanes(lanes.get());
+        }
+        if (ic.getBatchReceive()) {
+            log.keyOrderedLanesIgnoredWithBatchReceive(channel);
+            return null;
+        }
+        return new PulsarKeyOrderedLanes(lanes.get(), context, ackHandler, failureHandler);
+    }
+
     private boolean isEndOfStream(PulsarClient client, Throwable throwable) {
         if (closed.get()) {
             return true;
@@ -0,0 +1,107 @@
+package io.smallrye.reactive.messaging.pulsar;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.pulsar.client.api.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+/**
+ * Dispatches the messages received by a consumer to ordered lanes, by key.
+ * <p>
+ * Messages are assigned to a lane from the hash of their ordering key, or of their key if they do not have an ordering
+ * key, as the broker does for {@code Key_Shared} subscriptions. Messages without key all go to the same lane.
+ * <p>
+ * A lane emits a message only once the previous message of the lane has been acknowledged or negatively acknowledged,
+ * while messages of different lanes are emitted independently. When the downstream processes messages concurrently,
+ * e.g. with {@code @Blocking(ordered = false)}, messages with the same key are still processed in order.
+ * Acknowledgements are delegated to the configured {@link PulsarAckHandler} and {@link PulsarFailureHandler}.
+ */
+public class PulsarKeyOrderedLanes {
+
+    private static final byte[] NO_KEY = new byte[0];
+
+    private final int lanes;
+    private final Context context;
+    private final PulsarAckHandler ackHandler;
+    private final PulsarFailureHandler failureHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param lanes the number of lanes
+     * @param context the context on which messages waiting for their lane are emitted
+     * @param ackHandler the ack handler of the channel
+     * @param failureHandler the failure handler of the channel
+     */
+    public PulsarKeyOrderedLanes(int lanes, Context context, PulsarAckHandler ackHandler,
+            PulsarFailureHandler failureHandler) {
+        this.lanes = lanes;
+        this.context = context;
+        this.ackHandler = ackHandler;
+        this.failureHandler = failureHandler;
+    }
+
+    public <T> Multi<PulsarIncomingMessage<T>> dispatch(Multi<Message<T>> messages) {
+        return messages
+                .onItem().transform(this::toLaneMessage)
+                .group().by(m -> m.lane)
+                .onItem().transformToMulti(group -> {
+                    Lane lane = new Lane();
+                    return group.onItem().transformToUniAndConcatenate(lane::emitAfterPrevious);
+                }).merge(lanes);
+    }
+
+    int lane(Message<?> message) {
+        byte[] key = NO_KEY;
+        if (message.hasOrderingKey()) {
+            key = message.getOrderingKey();
+        } else if (message.hasKey()) {
+            key = message.getKeyBytes();
+        }
+        return Math.floorMod(HashUtil.murmur3(key), lanes);
+    }
+
+    private <T> LaneMessage<T> toLaneMessage(Message<T> message) {
+        CompletableFuture<Void> processed = new CompletableFuture<>();
+        PulsarIncomingMessage<T> incoming = new PulsarIncomingMessage<>(message,
+                m -> {
+                    processed.complete(null);
+                    return ackHandler.handle(m);
+                },
+                (m, reason, metadata) -> {
+                    processed.complete(null);
+                    return failureHandler.handle(m, reason, metadata);
+                });
+        return new LaneMessage<>(lane(message), incoming, processed);
+    }
+
+    private static class LaneMessage<T> {
+        private final int lane;
+        private final PulsarIncomingMessage<T> message;
+        private final CompletableFuture<Void> processed;
+
+        private LaneMessage(int lane, PulsarIncomingMessage<T> message, CompletableFuture<Void> processed) {
+            this.lane = lane;
+            this.message = message;
+            this.processed = processed;
+        }
+    }
+
+    private class Lane {
+        private CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+
+        private <T> Uni<PulsarIncomingMessage<T>> emitAfterPrevious(LaneMessage<T> message) {
+            CompletableFuture<Void> waitFor = previous;
+            previous = message.processed;
+            if (waitFor.isDone()) {
+                return Uni.createFrom().item(message.message);
+            }
+            return Uni.createFrom().completionStage(waitFor)
+                    .emitOn(command -> context.runOnContext(x -> command.run()))
+                    .replaceWith(message.message);
+        }
+    }
+}
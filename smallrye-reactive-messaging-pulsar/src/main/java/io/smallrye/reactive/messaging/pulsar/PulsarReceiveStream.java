@@ -0,0 +1,269 @@
+package io.smallrye.reactive.messaging.pulsar;
+
+import static io.smallrye.reactive.messaging.pulsar.i18n.PulsarLogging.log;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.apache.pulsar.client.api.Consumer;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.vertx.core.Context;
+
+/**
+ * A stream of the items received from a Pulsar consumer, emitted according to the downstream demand.
+ * <p>
+ * Received items are drained into an internal queue and emitted downstream on the given context.
+ * When the receive future is already completed, i.e. the item comes from the receiver queue of the consumer, the next
+ * item is received right away without waiting for a completion callback.
+ * <p>
+ * The consumer is paused when the queue holds {@code maxQueueSize} messages, and resumed when half of them are emitted.
+ *
+ * @param <M> the type of the received items, a message or a batch of messages
+ */
+public class PulsarReceiveStream<M> extends AbstractMulti<M> {
+
+    private final Consumer<?> consumer;
+    private final String channel;
+    private final Context context;
+    private final Supplier<CompletableFuture<M>> receive;
+    private final java.util.function.Consumer<M> onReceived;
+    private final ToIntFunction<M> size;
+    private final int maxQueueSize;
+
+    /**
+     * Constructor.
+     *
+     * @param consumer the Pulsar consumer
+     * @param channel the channel name
+     * @param context the context on which items are emitted downstream
+     * @param receive the function receiving the next item from the consumer
+     * @param onReceived called with each received item, on the thread completing the receive
+     * @param size the number of messages in a received item, items without messages are dropped
+     * @param maxQueueSize the number of messages buffered before pausing the consumer
+     */
+    public PulsarReceiveStream(Consumer<?> consumer, String channel, Context context,
+            Supplier<CompletableFuture<M>> receive, java.util.function.Consumer<M> onReceived,
+            ToIntFunction<M> size, int maxQueueSize) {
+        this.consumer = consumer;
+        this.channel = channel;
+        this.context = context;
+        this.receive = receive;
+        this.onReceived = onReceived;
+        this.size = size;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super M> subscriber) {
+        subscriber.onSubscribe(new ReceiveSubscription(subscriber));
+    }
+
+    private class ReceiveSubscription implements Flow.Subscription {
+        private static final int STATE_NEW = 0; // no request yet -- we start receiving on the first request
+        private static final int STATE_RECEIVING = 1;
+        private static final int STATE_PAUSED = 2;
+        private static final int STATE_CANCELLED = 3;
+        private static final int STATE_PAUSING = 4; // the consumer is being paused, it cannot be resumed yet
+
+        private final AtomicInteger state = new AtomicInteger(STATE_NEW);
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final Queue<M> queue = new ConcurrentLinkedQueue<>();
+        /**
+         * The number of messages in the queue, a batch counting for its number of messages.
+         */
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final int halfMaxQueueSize = maxQueueSize / 2;
+
+        private volatile MultiSubscriber<? super M> downstream;
+        private volatile Throwable failure;
+
+        private ReceiveSubscription(MultiSubscriber<? super M> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                if (state.get() != STATE_CANCELLED) {
+                    Subscriptions.add(requested, n);
+                    if (state.compareAndSet(STATE_NEW, STATE_RECEIVING)) {
+                        receive();
+                    }
+                    dispatch();
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid request");
+            }
+        }
+
+        private void receive() {
+            while (state.get() == STATE_RECEIVING && !done.get()) {
+                int size = queueSize.get();
+                if (size >= maxQueueSize) {
+                    if (state.compareAndSet(STATE_RECEIVING, STATE_PAUSING)) {
+                        log.pausingChannel(channel, size, maxQueueSize);
+                        // Pause before publishing the paused state, so a concurrent resume cannot be overridden
+                        consumer.pause();
+                        if (state.compareAndSet(STATE_PAUSING, STATE_PAUSED)) {
+                            // The queue may have been drained concurrently, let the dispatch loop resume if needed
+                            dispatch();
+                        }
+                    }
+                    return;
+                }
+                CompletableFuture<M> future;
+                try {
+                    future = receive.get();
+                } catch (Exception e) {
+                    report(e);
+                    return;
+                }
+                if (!future.isDone()) {
+                    future.whenComplete((item, failure) -> {
+                        if (failure != null) {
+                            report(failure);
+                        } else if (enqueue(item)) {
+                            receive();
+                        }
+                    });
+                    return;
+                }
+                try {
+                    if (!enqueue(future.join())) {
+                        return;
+                    }
+                } catch (CompletionException e) {
+                    report(e.getCause());
+                    return;
+                } catch (Exception e) {
+                    report(e);
+                    return;
+                }
+            }
+        }
+
+        private boolean enqueue(M item) {
+            try {
+                int count = size.applyAsInt(item);
+                if (count > 0) {
+                    onReceived.accept(item);
+                    queue.offer(item);
+                    queueSize.addAndGet(count);
+                    dispatch();
+                }
+                return true;
+            } catch (Exception e) {
+                report(e);
+                return false;
+            }
+        }
+
+        private void report(Throwable fail) {
+            if (fail instanceof CompletionException && fail.getCause() != null) {
+                fail = fail.getCause();
+            }
+            if (done.compareAndSet(false, true)) {
+                failure = fail;
+                dispatch();
+            }
+        }
+
+        private void dispatch() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            context.runOnContext(ignored -> run());
+        }
+
+        private void run() {
+            int missed = 1;
+            long emitted = 0;
+            long requests = requested.get();
+            for (;;) {
+                if (isCancelled()) {
+                    return;
+                }
+
+                while (emitted != requests) {
+                    M item = queue.poll();
+                    if (item == null || isCancelled()) {
+                        break;
+                    }
+                    queueSize.addAndGet(-size.applyAsInt(item));
+                    downstream.onItem(item);
+                    emitted++;
+                }
+
+                requests = requested.addAndGet(-emitted);
+                emitted = 0;
+
+                if (done.get() && queue.isEmpty()) {
+                    terminate();
+                    return;
+                }
+
+                resumeIfNeeded();
+
+                int w = wip.get();
+                if (missed == w) {
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private void resumeIfNeeded() {
+            int size = queueSize.get();
+            if (size <= halfMaxQueueSize && state.compareAndSet(STATE_PAUSED, STATE_RECEIVING)) {
+                log.resumingChannel(channel, size, halfMaxQueueSize);
+                consumer.resume();
+                receive();
+            }
+        }
+
+        private void terminate() {
+            if (state.getAndSet(STATE_CANCELLED) != STATE_CANCELLED) {
+                MultiSubscriber<? super M> subscriber = downstream;
+                downstream = null;
+                subscriber.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (state.getAndSet(STATE_CANCELLED) != STATE_CANCELLED) {
+                if (wip.getAndIncrement() == 0) {
+                    // nothing was currently dispatched, clearing the queue.
+                    queue.clear();
+                    downstream = null;
+                }
+            }
+        }
+
+        private boolean isCancelled() {
+            if (state.get() == STATE_CANCELLED) {
+                queue.clear();
+                downstream = null;
+                return true;
+            }
+            return false;
+        }
+    }
+}
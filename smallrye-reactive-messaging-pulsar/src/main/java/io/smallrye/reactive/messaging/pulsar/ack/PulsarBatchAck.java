@@ -0,0 +1,163 @@
+package io.smallrye.reactive.messaging.pulsar.ack;
+
+import static io.smallrye.reactive.messaging.pulsar.i18n.PulsarLogging.log;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.transaction.Transaction;
+
+import io.netty.channel.EventLoop;
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.smallrye.reactive.messaging.pulsar.PulsarAckHandler;
+import io.smallrye.reactive.messaging.pulsar.PulsarConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.pulsar.PulsarIncomingMessage;
+import io.smallrye.reactive.messaging.pulsar.transactions.PulsarTransactionMetadata;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Acknowledges messages individually, like {@link PulsarMessageAck}, but sends the acknowledgements in batch.
+ * <p>
+ * Message ids are buffered, grouped by transaction, and acknowledged with a single
+ * {@link Consumer#acknowledgeAsync(List)} call when {@code ack-batch-size} messages are buffered or after
+ * {@code ack-batch-interval} milliseconds. The acknowledgements of a batch are then resolved on their message context
+ * with a single hop to the event loop.
+ */
+public class PulsarBatchAck implements PulsarAckHandler {
+
+    public static final String STRATEGY_NAME = "batch";
+
+    @ApplicationScoped
+    @Identifier(STRATEGY_NAME)
+    public static class Factory implements PulsarAckHandler.Factory {
+
+        @Override
+        public PulsarBatchAck create(Consumer<?> consumer, PulsarConnectorIncomingConfiguration config) {
+            return new PulsarBatchAck(consumer, config.getAckBatchSize(), config.getAckBatchInterval());
+        }
+    }
+
+    private final Consumer<?> consumer;
+    private final int size;
+    private final Duration interval;
+
+    /**
+     * Pending acknowledgements, by transaction, {@code null} for acknowledgements outside a transaction.
+     */
+    private final Map<Transaction, List<PendingAck>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    public PulsarBatchAck(Consumer<?> consumer, int size, long interval) {
+        this.consumer = consumer;
+        this.size = size;
+        this.interval = Duration.ofMillis(interval);
+    }
+
+    @Override
+    public Uni<Void> handle(PulsarIncomingMessage<?> message) {
+        return Uni.createFrom().<Void> emitter(emitter -> add(new PendingAck(message, emitter)))
+                .onFailure().invoke(log::unableToAcknowledgeMessage);
+    }
+
+    private void add(PendingAck ack) {
+        Transaction transaction = ack.message.getMetadata(PulsarTransactionMetadata.class)
+                .map(PulsarTransactionMetadata::getTransaction)
+                .orElse(null);
+        List<PendingAck> batch = null;
+        boolean schedule = false;
+        synchronized (this) {
+            List<PendingAck> acks = pending.computeIfAbsent(transaction, t -> new ArrayList<>());
+            acks.add(ack);
+            if (acks.size() >= size) {
+                batch = pending.remove(transaction);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                schedule = true;
+            }
+        }
+        if (batch != null) {
+            acknowledge(transaction, batch);
+        } else if (schedule) {
+            Uni.createFrom().voidItem()
+                    .onItem().delayIt().by(interval)
+                    .subscribe().with(x -> flush());
+        }
+    }
+
+    private void flush() {
+        Map<Transaction, List<PendingAck>> batches;
+        synchronized (this) {
+            flushScheduled = false;
+            batches = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+        batches.forEach(this::acknowledge);
+    }
+
+    private void acknowledge(Transaction transaction, List<PendingAck> batch) {
+        List<MessageId> ids = new ArrayList<>(batch.size());
+        for (PendingAck ack : batch) {
+            ids.add(ack.message.getMessageId());
+        }
+        CompletableFuture<Void> future;
+        try {
+            future = transaction == null ? consumer.acknowledgeAsync(ids) : consumer.acknowledgeAsync(ids, transaction);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((x, failure) -> complete(batch, failure));
+    }
+
+    /**
+     * Resolves the acknowledgements of a batch, each one on the context of its message.
+     * The messages of a channel are dispatched on the same event loop, so the batch is resolved with a single hop to
+     * this event loop, each acknowledgement being dispatched on its duplicated context from there.
+     */
+    private static void complete(List<PendingAck> batch, Throwable failure) {
+        batch.get(0).message.runOnMessageContext(() -> {
+            EventLoop eventLoop = ContextInternal.current() == null ? null : ContextInternal.current().nettyEventLoop();
+            for (PendingAck ack : batch) {
+                Optional<ContextInternal> context = ack.message.getContextMetadata()
+                        .map(LocalContextMetadata::context)
+                        .map(ContextInternal.class::cast);
+                if (context.isEmpty()) {
+                    ack.complete(failure);
+                } else if (context.get().nettyEventLoop() == eventLoop) {
+                    context.get().dispatch(v -> ack.complete(failure));
+                } else {
+                    ack.message.runOnMessageContext(() -> ack.complete(failure));
+                }
+            }
+        });
+    }
+
+    private static class PendingAck {
+        private final PulsarIncomingMessage<?> message;
+        private final UniEmitter<? super Void> emitter;
+
+        private PendingAck(PulsarIncomingMessage<?> message, UniEmitter<? super Void> emitter) {
+            this.message = message;
+            this.emitter = emitter;
+        }
+
+        private void complete(Throwable failure) {
+            if (failure == null) {
+                emitter.complete(null);
+            } else {
+                emitter.fail(failure);
+            }
+        }
+    }
+}
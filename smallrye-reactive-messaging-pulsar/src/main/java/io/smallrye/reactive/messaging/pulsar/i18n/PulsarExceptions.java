@@ -28,4 +28,10 @@ public interface PulsarExceptions {
 
     @Message(id = 19104, value = "Only one subscriber allowed")
     IllegalStateException illegalStateOnlyOneSubscriber();
+
+    @Message(id = 19105, value = "Invalid max-queue-size %d, it must be strictly positive")
+    IllegalArgumentException illegalArgumentInvalidMaxQueueSize(int maxQueueSize);
+
+    @Message(id = 19106, value = "Invalid key-ordered-lanes %d, it must be strictly positive")
+    IllegalArgumentException illegalArgumentInvalidKeyOrderedLanes(int lanes);
 }
@@ -87,4 +87,16 @@ public interface PulsarLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 19022, value = "The schema provider not found with id '%s', for channel '%s' falling back to default schema %s")
     void schemaProviderNotFound(String schemaProviderId, String channel, String defaultSchema);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 19023, value = "Pausing Pulsar consumption for channel %s, queue size %s >= %s")
+    void pausingChannel(String channel, int queueSize, int maxQueueSize);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 19024, value = "Resuming Pulsar consumption for channel %s, queue size %s <= %s")
+    void resumingChannel(String channel, int queueSize, int halfMaxQueueSize);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 19025, value = "The key-ordered-lanes attribute is ignored for the channel %s, as it uses batch receive")
+    void keyOrderedLanesIgnoredWithBatchReceive(String channel);
 }
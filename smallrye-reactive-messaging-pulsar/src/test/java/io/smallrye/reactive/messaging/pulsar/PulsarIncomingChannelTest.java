@@ -3,18 +3,24 @@ package io.smallrye.reactive.messaging.pulsar;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.pulsar.client.api.Producer;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Schema;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.reactive.messaging.pulsar.ack.PulsarMessageAck;
 import io.smallrye.reactive.messaging.pulsar.base.PulsarBaseTest;
 import io.smallrye.reactive.messaging.pulsar.fault.PulsarNack;
@@ -48,6 +54,61 @@ public class PulsarIncomingChannelTest extends PulsarBaseTest {
                 IntStream.range(0, NUMBER_OF_MESSAGES).boxed().collect(Collectors.toList()));
     }
 
+    @Test
+    void testIncomingChannelWithSmallQueue() throws PulsarClientException {
+        PulsarConnectorIncomingConfiguration ic = new PulsarConnectorIncomingConfiguration(config()
+                .with("max-queue-size", 10));
+        PulsarIncomingChannel<Person> channel = new PulsarIncomingChannel<>(client, vertx, Schema.JSON(Person.class),
+                new PulsarMessageAck.Factory(), new PulsarNack.Factory(), ic, configResolver);
+        AssertSubscriber<Message<?>> subscriber = Multi.createFrom().publisher(channel.getPublisher())
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        send(client.newProducer(Schema.JSON(Person.class))
+                .producerName("test-producer")
+                .topic(topic)
+                .create(),
+                NUMBER_OF_MESSAGES, i -> new Person(ThreadLocalRandom.current().nextInt() + "", i));
+
+        await().until(() -> subscriber.getItems().size() == 5);
+        await().pollDelay(Duration.ofMillis(500)).until(() -> subscriber.getItems().size() == 5);
+
+        subscriber.request(NUMBER_OF_MESSAGES);
+        await().until(() -> subscriber.getItems().size() == NUMBER_OF_MESSAGES);
+        assertThat(subscriber.getItems()).extracting(m -> ((Person) m.getPayload()).age)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(0, NUMBER_OF_MESSAGES).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testIncomingChannelWithKeyOrderedLanes() throws PulsarClientException {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+
+        PulsarConnectorIncomingConfiguration ic = new PulsarConnectorIncomingConfiguration(config()
+                .with("key-ordered-lanes", 4));
+        PulsarIncomingChannel<Integer> channel = new PulsarIncomingChannel<>(client, vertx, Schema.INT32,
+                new PulsarMessageAck.Factory(), new PulsarNack.Factory(), ic, configResolver);
+        Multi.createFrom().publisher(channel.getPublisher())
+                .onItem().transformToUni(m -> Uni.createFrom().item(m)
+                        .onItem().delayIt().by(Duration.ofMillis(ThreadLocalRandom.current().nextInt(1, 5)))
+                        .invoke(x -> received.computeIfAbsent(((PulsarIncomingMessage<?>) x).getKey(),
+                                k -> new CopyOnWriteArrayList<>()).add((Integer) x.getPayload()))
+                        .call(x -> Uni.createFrom().completionStage(x.ack())))
+                .merge(16)
+                .subscribe().with(x -> {
+                });
+
+        Producer<Integer> producer = client.newProducer(Schema.INT32)
+                .producerName("test-producer")
+                .topic(topic)
+                .create();
+        for (int i = 0; i < 200; i++) {
+            producer.newMessage().key("key-" + (i % 10)).value(i).send();
+        }
+
+        await().until(() -> received.values().stream().mapToInt(List::size).sum() == 200);
+        assertThat(received).hasSize(10).allSatisfy((key, values) -> assertThat(values).isSorted().hasSize(20));
+    }
+
     MapBasedConfig config() {
         return baseConfig()
                 .with("channel-name", "channel")
@@ -1,25 +1,39 @@
 package io.smallrye.reactive.messaging.pulsar.ack;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
+import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.SubscriptionInitialPosition;
+import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.pulsar.PulsarConnector;
+import io.smallrye.reactive.messaging.pulsar.PulsarIncomingMessage;
 import io.smallrye.reactive.messaging.pulsar.base.WeldTestBase;
+import io.smallrye.reactive.messaging.pulsar.transactions.PulsarTransactions;
 import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
 
 public class PulsarAckTest extends WeldTestBase {
 
     public static final int NUMBER_OF_MESSAGES = 100;
+    public static final String SUBSCRIPTION = "ack-test-subscription";
 
     @Test
     void testAck() throws PulsarClientException {
@@ -53,11 +67,115 @@ public class PulsarAckTest extends WeldTestBase {
         await().atMost(Duration.ofSeconds(30)).until(() -> app.getResults().size() == NUMBER_OF_MESSAGES);
     }
 
+    @Test
+    void testBatchAckFlushedOnSize() throws PulsarClientException, PulsarAdminException {
+        addBeans(PulsarBatchAck.Factory.class);
+        // Run app, the interval never elapses during the test
+        MapBasedConfig batch = config()
+                .with("mp.messaging.incoming.data.ack-strategy", "batch")
+                .with("mp.messaging.incoming.data.ack-batch-size", 25)
+                .with("mp.messaging.incoming.data.ack-batch-interval", 600_000);
+        ConsumingApp app = runApplication(batch, ConsumingApp.class);
+        // Produce messages
+        send(client.newProducer(Schema.INT32)
+                .producerName("test-producer")
+                .topic(topic)
+                .create(), NUMBER_OF_MESSAGES, i -> i);
+
+        // Check for consumed messages in app
+        await().atMost(Duration.ofSeconds(30)).until(() -> app.getResults().size() == NUMBER_OF_MESSAGES);
+        // Check the acknowledgements reached the broker
+        await().atMost(Duration.ofSeconds(30)).until(() -> backlog(topic) == 0);
+        assertNoRedelivery(topic);
+    }
+
+    @Test
+    void testBatchAckFlushedOnInterval() throws PulsarClientException, PulsarAdminException {
+        addBeans(PulsarBatchAck.Factory.class);
+        // Run app, the batch is never full
+        MapBasedConfig batch = config()
+                .with("mp.messaging.incoming.data.ack-strategy", "batch")
+                .with("mp.messaging.incoming.data.ack-batch-size", NUMBER_OF_MESSAGES * 10)
+                .with("mp.messaging.incoming.data.ack-batch-interval", 200);
+        ConsumingApp app = runApplication(batch, ConsumingApp.class);
+        // Produce messages
+        send(client.newProducer(Schema.INT32)
+                .producerName("test-producer")
+                .topic(topic)
+                .create(), NUMBER_OF_MESSAGES, i -> i);
+
+        // Check for consumed messages in app
+        await().atMost(Duration.ofSeconds(30)).until(() -> app.getResults().size() == NUMBER_OF_MESSAGES);
+        // Check the acknowledgements reached the broker
+        await().atMost(Duration.ofSeconds(30)).until(() -> backlog(topic) == 0);
+        assertNoRedelivery(topic);
+    }
+
+    @Test
+    void testBatchAckInTransaction() throws PulsarClientException, PulsarAdminException {
+        addBeans(PulsarBatchAck.Factory.class);
+        String outTopic = UUID.randomUUID().toString();
+        // Run app
+        MapBasedConfig batch = config()
+                .with("mp.messaging.incoming.data.ack-strategy", "batch")
+                .with("mp.messaging.incoming.data.ack-batch-size", 5)
+                .with("mp.messaging.incoming.data.ack-batch-interval", 100)
+                .with("mp.messaging.incoming.data.enableTransaction", true)
+                .with("mp.messaging.outgoing.out.connector", PulsarConnector.CONNECTOR_NAME)
+                .with("mp.messaging.outgoing.out.serviceUrl", serviceUrl)
+                .with("mp.messaging.outgoing.out.topic", outTopic)
+                .with("mp.messaging.outgoing.out.enableTransaction", true)
+                .with("mp.messaging.outgoing.out.schema", "INT32");
+        TransactionalApp app = runApplication(batch, TransactionalApp.class);
+        int numberOfMessages = 10;
+        // Produce messages
+        send(client.newProducer(Schema.INT32)
+                .producerName("test-producer")
+                .topic(topic)
+                .create(), numberOfMessages, i -> i);
+
+        // Check the committed messages
+        List<Integer> list = new CopyOnWriteArrayList<>();
+        receive(client.newConsumer(Schema.INT32)
+                .subscriptionInitialPosition(SubscriptionInitialPosition.Earliest)
+                .consumerName("test-consumer")
+                .subscriptionName("test-subscription")
+                .topic(outTopic)
+                .subscribe(), numberOfMessages, m -> list.add(m.getValue()));
+        await().atMost(Duration.ofMinutes(1)).untilAsserted(() -> assertThat(list)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, numberOfMessages).boxed()
+                        .collect(Collectors.toList())));
+        assertThat(app.getResults()).hasSize(numberOfMessages);
+        // Check the acknowledgements have been committed with the transactions
+        await().atMost(Duration.ofSeconds(30)).until(() -> backlog(topic) == 0);
+        assertNoRedelivery(topic);
+    }
+
+    long backlog(String topic) throws PulsarAdminException {
+        return admin.topics().getStats(topic).getSubscriptions().get(SUBSCRIPTION).getMsgBacklog();
+    }
+
+    /**
+     * Restarts the consumption on the subscription, and checks no acknowledged message is redelivered.
+     */
+    void assertNoRedelivery(String topic) throws PulsarClientException {
+        stopContainer();
+        // Already closed, skip it when the test ends
+        container = null;
+        try (Consumer<Integer> consumer = client.newConsumer(Schema.INT32)
+                .topic(topic)
+                .subscriptionName(SUBSCRIPTION)
+                .subscribe()) {
+            assertThat(consumer.receive(2, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
     MapBasedConfig config() {
         return new MapBasedConfig()
                 .with("mp.messaging.incoming.data.connector", PulsarConnector.CONNECTOR_NAME)
                 .with("mp.messaging.incoming.data.serviceUrl", serviceUrl)
                 .with("mp.messaging.incoming.data.topic", topic)
+                .with("mp.messaging.incoming.data.subscriptionName", SUBSCRIPTION)
                 .with("mp.messaging.incoming.data.schema", "INT32");
     }
 
@@ -76,4 +194,27 @@ public class PulsarAckTest extends WeldTestBase {
         }
     }
 
+    @ApplicationScoped
+    public static class TransactionalApp {
+
+        @Inject
+        @Channel("out")
+        PulsarTransactions<Integer> transactions;
+
+        private final List<Integer> results = new CopyOnWriteArrayList<>();
+
+        @Incoming("data")
+        Uni<Void> process(PulsarIncomingMessage<Integer> message) {
+            return transactions.withTransactionAndAck(message, emitter -> {
+                results.add(message.getPayload());
+                emitter.send(message.getPayload());
+                return Uni.createFrom().voidItem();
+            });
+        }
+
+        public List<Integer> getResults() {
+            return results;
+        }
+    }
+
 }
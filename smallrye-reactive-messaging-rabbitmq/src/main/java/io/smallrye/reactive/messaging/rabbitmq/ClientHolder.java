@@ -5,6 +5,7 @@ import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging.log;
 
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,6 +22,10 @@ public class ClientHolder {
     private final RabbitMQClient client;
 
     private final AtomicBoolean connected = new AtomicBoolean(false);
+    /**
+     * Incremented every time the RabbitMQ channel is (re-)opened, as delivery tags are scoped to the channel.
+     */
+    private final AtomicLong channelGeneration = new AtomicLong();
     private final AtomicReference<CurrentConnection> connectionHolder = new AtomicReference<>();
     private final Uni<RabbitMQClient> connection;
 
@@ -89,6 +94,20 @@ public class ClientHolder {
         }
     }
 
+    /**
+     * @return the generation of the current RabbitMQ channel
+     */
+    public long getChannelGeneration() {
+        return channelGeneration.get();
+    }
+
+    /**
+     * Records that a new RabbitMQ channel has been opened, invalidating the delivery tags of the previous one.
+     */
+    public void channelOpened() {
+        channelGeneration.incrementAndGet();
+    }
+
     public RabbitMQClient client() {
         return client;
     }
@@ -99,7 +118,12 @@ public class ClientHolder {
 
     @CheckReturnValue
     public Uni<Void> getAck(final long deliveryTag) {
-        return client.basicAck(deliveryTag, false);
+        return getAck(deliveryTag, false);
+    }
+
+    @CheckReturnValue
+    public Uni<Void> getAck(final long deliveryTag, final boolean multiple) {
+        return client.basicAck(deliveryTag, multiple);
     }
 
     public Function<Throwable, Uni<Void>> getNack(final long deliveryTag, final boolean requeue) {
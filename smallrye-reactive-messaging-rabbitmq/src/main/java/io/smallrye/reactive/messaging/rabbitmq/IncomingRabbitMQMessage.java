@@ -56,6 +56,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T>, Metad
     private final ClientHolder holder;
     private final Context context;
     private final long deliveryTag;
+    private final long channelGeneration;
     private RabbitMQFailureHandler onNack;
     private RabbitMQAckHandler onAck;
     private final String contentTypeOverride;
@@ -72,6 +73,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T>, Metad
         this.message = msg;
         this.deliveryTag = msg.envelope().getDeliveryTag();
         this.holder = holder;
+        this.channelGeneration = holder.getChannelGeneration();
         this.context = holder.getContext();
         this.contentTypeOverride = contentTypeOverride;
         this.rabbitMQMetadata = new IncomingRabbitMQMetadata(this.message);
@@ -112,7 +114,8 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T>, Metad
             // We must switch to the context having created the message.
             // This context is passed when this instance of message is created.
             // It's more a Vert.x RabbitMQ client issue which should ensure calling `not accepted` on the right context.
-            return onNack.handle(this, metadata, context, reason);
+            RabbitMQFailureHandler failureHandler = onNack;
+            return onAck.handleNack(this, context, () -> failureHandler.handle(this, metadata, context, reason));
         } finally {
             // Ensure ack/nack are only called once
             onAck = AlreadyAcknowledgedHandler.INSTANCE;
@@ -120,6 +123,14 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T>, Metad
         }
     }
 
+    /**
+     * @return {@code true} if the message has been delivered on the current RabbitMQ channel, {@code false} if the
+     *         channel has been re-opened since, in which case its delivery tag is no longer valid
+     */
+    public boolean isFromCurrentChannel() {
+        return channelGeneration == holder.getChannelGeneration();
+    }
+
     /**
      * Acknowledges the message.
      */
@@ -127,6 +138,13 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T>, Metad
         holder.getAck(this.deliveryTag).subscribeAsCompletionStage();
     }
 
+    /**
+     * Acknowledges the message and all the previous unacknowledged messages delivered on the same RabbitMQ channel.
+     */
+    public void acknowledgeMessages() {
+        holder.getAck(this.deliveryTag, true).subscribeAsCompletionStage();
+    }
+
     /**
      * Rejects the message by nack'ing with requeue=false; this will either discard the message for good or
      * (if a DLQ has been set up) send it to the DLQ.
@@ -123,12 +123,18 @@ import io.vertx.rabbitmq.RabbitMQOptions;
 @ConnectorAttribute(name = "consumer-arguments", direction = INCOMING, description = "A comma-separated list of arguments [key1:value1,key2:value2,...] for created consumer", type = "string")
 @ConnectorAttribute(name = "content-type-override", direction = INCOMING, description = "Override the content_type attribute of the incoming message, should be a valid MINE type", type = "string")
 @ConnectorAttribute(name = "max-outstanding-messages", direction = INCOMING, description = "The maximum number of outstanding/unacknowledged messages being processed by the connector at a time; must be a positive number", type = "int")
+@ConnectorAttribute(name = "ack-coalescing-size", direction = INCOMING, description = "The number of acknowledged messages after which the contiguous acknowledged messages are acknowledged at once using a single multiple acknowledgement. If not set, or set to 1, messages are acknowledged individually. Ignored if auto-acknowledgement is true", type = "int")
+@ConnectorAttribute(name = "ack-coalescing-interval", direction = INCOMING, description = "The maximum time (ms) an acknowledgement is delayed when ack-coalescing-size is set", type = "long", defaultValue = "100")
 
 // Message producer
 @ConnectorAttribute(name = "max-inflight-messages", direction = OUTGOING, description = "The maximum number of messages to be written to RabbitMQ concurrently; must be a positive number", type = "long", defaultValue = "1024")
 @ConnectorAttribute(name = "default-routing-key", direction = OUTGOING, description = "The default routing key to use when sending messages to the exchange", type = "string", defaultValue = "")
 @ConnectorAttribute(name = "default-ttl", direction = OUTGOING, description = "If specified, the time (ms) sent messages can remain in queues undelivered before they are dead", type = "long")
 @ConnectorAttribute(name = "publish-confirms", direction = OUTGOING, description = "If set to true, published messages are acknowledged when the publish confirm is received from the broker", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "publish-confirms-tracking", direction = OUTGOING, description = "If set to true, and publish-confirms is true, messages are published directly on the RabbitMQ channel without waiting for the previous confirms, and the confirms (including multiple confirms) are tracked by sequence number. The number of unconfirmed messages is bounded by max-inflight-messages and max-inflight-bytes", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "max-inflight-bytes", direction = OUTGOING, description = "The maximum number of bytes of messages published but not confirmed yet; must be a positive number. Relevant only if publish-confirms-tracking is true", type = "long")
+@ConnectorAttribute(name = "publisher-pool-size", direction = OUTGOING, description = "The number of publishers, each one using its own connection and AMQP channel, used to send the messages. When `addresses` is set, the connections are spread across the listed brokers. max-inflight-messages applies to each publisher", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "publisher-pool-distribution", direction = OUTGOING, description = "How the messages are distributed to the publishers of the pool: `round-robin`, or `routing-key` to send the messages with the same routing key through the same publisher, preserving their order", type = "string", defaultValue = "round-robin")
 
 // Tracing
 @ConnectorAttribute(name = "tracing.enabled", direction = INCOMING_AND_OUTGOING, description = "Whether tracing is enabled (default) or disabled", type = "boolean", defaultValue = "true")
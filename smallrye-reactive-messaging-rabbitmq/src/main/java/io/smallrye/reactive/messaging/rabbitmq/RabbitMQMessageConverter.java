@@ -1,6 +1,7 @@
 package io.smallrye.reactive.messaging.rabbitmq;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -40,6 +41,10 @@ public class RabbitMQMessageConverter {
             Float.class,
             Long.class);
 
+    private static final String TEXT_PLAIN = HttpHeaderValues.TEXT_PLAIN.toString();
+    private static final String APPLICATION_OCTET_STREAM = HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+    private static final String APPLICATION_JSON = HttpHeaderValues.APPLICATION_JSON.toString();
+
     private RabbitMQMessageConverter() {
         // Avoid direct instantiation.
     }
@@ -60,6 +65,27 @@ public class RabbitMQMessageConverter {
             final String defaultRoutingKey,
             final Optional<Long> defaultTtl,
             final boolean isTracingEnabled) {
+        return convert(instrumenter, message, exchange, defaultRoutingKey, defaultTtl, isTracingEnabled, null);
+    }
+
+    /**
+     * Converts the supplied {@link Message} to an {@link OutgoingRabbitMQMessage}.
+     *
+     * @param message the source message
+     * @param exchange the destination exchange
+     * @param defaultRoutingKey the fallback routing key to use
+     * @param isTracingEnabled whether tracing is enabled
+     * @param template the properties of the messages without {@link OutgoingRabbitMQMetadata}, may be {@code null}
+     * @return an {@link OutgoingRabbitMQMessage}
+     */
+    public static OutgoingRabbitMQMessage convert(
+            final RabbitMQOpenTelemetryInstrumenter instrumenter,
+            final Message<?> message,
+            final String exchange,
+            final String defaultRoutingKey,
+            final Optional<Long> defaultTtl,
+            final boolean isTracingEnabled,
+            final PropertiesTemplate template) {
         final Optional<io.vertx.mutiny.rabbitmq.RabbitMQMessage> rabbitMQMessage = getRabbitMQMessage(message);
         final String routingKey = getRoutingKey(message).orElse(defaultRoutingKey);
 
@@ -110,8 +136,13 @@ public class RabbitMQMessageConverter {
             final String defaultContentType = getDefaultContentTypeForPayload(message.getPayload());
             body = getBodyFromPayload(message.getPayload());
 
-            final OutgoingRabbitMQMetadata metadata = message.getMetadata(OutgoingRabbitMQMetadata.class)
-                    .orElse(new OutgoingRabbitMQMetadata.Builder()
+            final Optional<OutgoingRabbitMQMetadata> outgoingMetadata = message.getMetadata(OutgoingRabbitMQMetadata.class);
+            if (outgoingMetadata.isEmpty() && template != null && !isTracingEnabled) {
+                // Nothing is specific to the message, use the precomputed properties
+                return new OutgoingRabbitMQMessage(routingKey, body, template.get(defaultContentType));
+            }
+            final OutgoingRabbitMQMetadata metadata = outgoingMetadata
+                    .orElseGet(() -> new OutgoingRabbitMQMetadata.Builder()
                             .withContentType(defaultContentType)
                             .withExpiration(defaultTtl.map(String::valueOf).orElse(null))
                             .build());
@@ -169,12 +200,12 @@ public class RabbitMQMessageConverter {
         } else if (payload instanceof byte[]) {
             return Buffer.buffer((byte[]) payload);
         } else if (payload instanceof JsonObject) {
-            return Buffer.buffer(((JsonObject) payload).encode());
+            return Buffer.newInstance(((JsonObject) payload).toBuffer());
         } else if (payload instanceof JsonArray) {
-            return Buffer.buffer(((JsonArray) payload).encode());
+            return Buffer.newInstance(((JsonArray) payload).toBuffer());
         } else {
-            // Other objects are serialized to JSON
-            return Buffer.buffer(Json.encode(payload));
+            // Other objects are serialized to JSON, directly as bytes
+            return Buffer.newInstance(Json.encodeToBuffer(payload));
         }
     }
 
@@ -186,24 +217,24 @@ public class RabbitMQMessageConverter {
      */
     private static String getDefaultContentTypeForPayload(final Object payload) {
         if (payload == null) {
-            return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+            return APPLICATION_OCTET_STREAM;
         }
         if (isPrimitive(payload.getClass())) {
             // Anything representable a string is rendered as a String
-            return HttpHeaderValues.TEXT_PLAIN.toString();
+            return TEXT_PLAIN;
         } else if (payload instanceof Buffer) {
-            return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+            return APPLICATION_OCTET_STREAM;
         } else if (payload instanceof io.vertx.core.buffer.Buffer) {
-            return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+            return APPLICATION_OCTET_STREAM;
         } else if (payload instanceof byte[]) {
-            return HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+            return APPLICATION_OCTET_STREAM;
         } else if (payload instanceof JsonObject) {
-            return HttpHeaderValues.APPLICATION_JSON.toString();
+            return APPLICATION_JSON;
         } else if (payload instanceof JsonArray) {
-            return HttpHeaderValues.APPLICATION_JSON.toString();
+            return APPLICATION_JSON;
         } else {
             // Other objects are serialized to JSON
-            return HttpHeaderValues.APPLICATION_JSON.toString();
+            return APPLICATION_JSON;
         }
     }
 
@@ -221,7 +252,14 @@ public class RabbitMQMessageConverter {
         }
     }
 
-    private static Optional<String> getRoutingKey(final Message<?> message) {
+    /**
+     * Extracts the routing key of an outgoing message, from the incoming RabbitMQ message it wraps or from its
+     * {@link OutgoingRabbitMQMetadata}.
+     *
+     * @param message the outgoing message
+     * @return the routing key, empty if the default routing key must be used
+     */
+    public static Optional<String> getRoutingKey(final Message<?> message) {
         final Optional<io.vertx.mutiny.rabbitmq.RabbitMQMessage> rabbitMQMessage = getRabbitMQMessage(message);
 
         if (rabbitMQMessage.isPresent()) {
@@ -238,6 +276,47 @@ public class RabbitMQMessageConverter {
         return clazz.isPrimitive() || PRIMITIVES.contains(clazz);
     }
 
+    /**
+     * The precomputed properties of the messages sent by a channel without {@link OutgoingRabbitMQMetadata}, which only
+     * depend on the content type of the payload and on the channel default TTL.
+     * <p>
+     * It must not be used when tracing is enabled, as the tracing headers are specific to each message.
+     */
+    public static final class PropertiesTemplate {
+        private final BasicProperties textPlain;
+        private final BasicProperties octetStream;
+        private final BasicProperties json;
+
+        /**
+         * Constructor.
+         *
+         * @param defaultTtl the default TTL of the channel
+         */
+        public PropertiesTemplate(Optional<Long> defaultTtl) {
+            String expiration = defaultTtl.map(String::valueOf).orElse(null);
+            this.textPlain = create(TEXT_PLAIN, expiration);
+            this.octetStream = create(APPLICATION_OCTET_STREAM, expiration);
+            this.json = create(APPLICATION_JSON, expiration);
+        }
+
+        private static BasicProperties create(String contentType, String expiration) {
+            return new AMQP.BasicProperties.Builder()
+                    .contentType(contentType)
+                    .headers(Collections.emptyMap())
+                    .expiration(expiration)
+                    .build();
+        }
+
+        BasicProperties get(String contentType) {
+            if (TEXT_PLAIN.equals(contentType)) {
+                return textPlain;
+            } else if (APPLICATION_JSON.equals(contentType)) {
+                return json;
+            }
+            return octetStream;
+        }
+    }
+
     /**
      * Represents an outgoing RabbitMQ message.
      */
@@ -1,6 +1,7 @@
 package io.smallrye.reactive.messaging.rabbitmq.ack;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import io.smallrye.reactive.messaging.rabbitmq.IncomingRabbitMQMessage;
 import io.vertx.mutiny.core.Context;
@@ -32,4 +33,21 @@ public interface RabbitMQAckHandler {
      */
     <V> CompletionStage<Void> handle(IncomingRabbitMQMessage<V> message, Context context);
 
+    /**
+     * Handle the request to negatively acknowledge a message.
+     * <p>
+     * Handlers deferring acknowledgements can use it to send the pending acknowledgements before the message is
+     * negatively acknowledged by the failure handler.
+     *
+     * @param message the message to negatively acknowledge
+     * @param context the {@link Context} in which the acknowledgement should take place
+     * @param nack the negative acknowledgement, delegating to the failure handler
+     * @param <V> message body type
+     * @return a {@link CompletionStage}
+     */
+    default <V> CompletionStage<Void> handleNack(IncomingRabbitMQMessage<V> message, Context context,
+            Supplier<CompletionStage<Void>> nack) {
+        return nack.get();
+    }
+
 }
@@ -0,0 +1,175 @@
+package io.smallrye.reactive.messaging.rabbitmq.ack;
+
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging.log;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import io.smallrye.reactive.messaging.providers.helpers.VertxContext;
+import io.smallrye.reactive.messaging.rabbitmq.ClientHolder;
+import io.smallrye.reactive.messaging.rabbitmq.IncomingRabbitMQMessage;
+import io.vertx.mutiny.core.Context;
+
+/**
+ * A {@link RabbitMQAckHandler} used when auto-ack is off, coalescing acknowledgements.
+ * <p>
+ * Instead of acknowledging every message individually, it tracks the contiguous prefix of settled (acknowledged or
+ * negatively-acknowledged) delivery tags and acknowledges it at once with {@code basicAck(tag, multiple=true)}, when
+ * the prefix contains {@code size} acknowledged messages or after {@code interval} milliseconds.
+ * <p>
+ * Before a message is negatively-acknowledged, the pending prefix is flushed, so a multiple acknowledgement never
+ * covers a message which has not been acknowledged by the application.
+ * <p>
+ * Delivery tags are scoped to the RabbitMQ channel. Acknowledgements and negative-acknowledgements of messages
+ * delivered on a previous channel are ignored, the broker redelivers these messages.
+ */
+public class RabbitMQCoalescingAck implements RabbitMQAckHandler {
+
+    private final String channel;
+    private final int size;
+    private final long interval;
+
+    /**
+     * Settled delivery tags above the contiguous prefix, mapped to the acknowledged message, or {@code null} when the
+     * message has been negatively-acknowledged.
+     */
+    private final TreeMap<Long, IncomingRabbitMQMessage<?>> outOfOrder = new TreeMap<>();
+    /**
+     * The highest delivery tag such that all the delivery tags up to it are settled.
+     */
+    private long settled;
+    /**
+     * The acknowledged message with the highest delivery tag in the prefix, not acknowledged on the broker yet.
+     */
+    private IncomingRabbitMQMessage<?> lastAcked;
+    private int pending;
+    private boolean timerScheduled;
+
+    /**
+     * Constructor.
+     *
+     * @param channel the channel on which acks are issued
+     * @param size the number of acknowledged messages triggering the acknowledgement of the prefix
+     * @param interval the maximum delay in milliseconds before acknowledging the prefix
+     */
+    public RabbitMQCoalescingAck(String channel, int size, long interval) {
+        this.channel = channel;
+        this.size = size;
+        this.interval = interval;
+    }
+
+    @Override
+    public <V> CompletionStage<Void> handle(final IncomingRabbitMQMessage<V> msg, final Context context) {
+        log.ackMessage(channel);
+        settle(msg.message.envelope().getDeliveryTag(), msg, msg, context);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public <V> CompletionStage<Void> handleNack(IncomingRabbitMQMessage<V> msg, Context context,
+            Supplier<CompletionStage<Void>> nack) {
+        long tag = msg.message.envelope().getDeliveryTag();
+        if (!msg.isFromCurrentChannel()) {
+            // The delivery tag would designate another message on the current channel
+            log.staleSettlementIgnored(tag, channel);
+            return CompletableFuture.completedFuture(null);
+        }
+        return VertxContext.<Void> runOnContext(context.getDelegate(), f -> {
+            // Acknowledge the pending prefix before the nack frame is sent
+            flush();
+            f.complete(null);
+        })
+                .thenCompose(x -> nack.get())
+                .whenComplete((x, t) -> settle(tag, msg, null, context));
+    }
+
+    /**
+     * Discards the tracked delivery tags, as they are scoped to the RabbitMQ channel.
+     * Must be called when a new connection is established, after {@link ClientHolder#channelOpened()}.
+     */
+    public synchronized void reset() {
+        outOfOrder.clear();
+        settled = 0;
+        lastAcked = null;
+        pending = 0;
+    }
+
+    /**
+     * @param source the settled message
+     * @param acked the settled message if acknowledged, {@code null} if negatively-acknowledged
+     */
+    private void settle(long tag, IncomingRabbitMQMessage<?> source, IncomingRabbitMQMessage<?> acked,
+            Context context) {
+        boolean flush;
+        boolean schedule = false;
+        synchronized (this) {
+            // Checked under the lock, so the tag cannot be settled after the tracker has been reset
+            if (!source.isFromCurrentChannel()) {
+                log.staleSettlementIgnored(tag, channel);
+                return;
+            }
+            settle(tag, acked);
+            flush = pending >= size;
+            if (!flush && pending > 0 && !timerScheduled) {
+                timerScheduled = true;
+                schedule = true;
+            }
+        }
+        if (flush) {
+            VertxContext.runOnContext(context.getDelegate(), this::flush);
+        } else if (schedule) {
+            context.owner().setTimer(interval, id -> {
+                synchronized (this) {
+                    timerScheduled = false;
+                }
+                VertxContext.runOnContext(context.getDelegate(), this::flush);
+            });
+        }
+    }
+
+    private void settle(long tag, IncomingRabbitMQMessage<?> msg) {
+        if (tag <= settled) {
+            return;
+        }
+        if (tag != settled + 1) {
+            outOfOrder.put(tag, msg);
+            return;
+        }
+        advance(tag, msg);
+        Map.Entry<Long, IncomingRabbitMQMessage<?>> next;
+        while ((next = outOfOrder.firstEntry()) != null && next.getKey() == settled + 1) {
+            outOfOrder.pollFirstEntry();
+            advance(next.getKey(), next.getValue());
+        }
+    }
+
+    private void advance(long tag, IncomingRabbitMQMessage<?> msg) {
+        settled = tag;
+        if (msg != null) {
+            lastAcked = msg;
+            pending++;
+        }
+    }
+
+    /**
+     * Acknowledges the pending prefix. Must be called on the connection context, so the acknowledgements are sent in
+     * order.
+     */
+    private void flush() {
+        IncomingRabbitMQMessage<?> msg;
+        int count;
+        synchronized (this) {
+            msg = lastAcked;
+            count = pending;
+            lastAcked = null;
+            pending = 0;
+        }
+        if (msg != null && msg.isFromCurrentChannel()) {
+            log.ackMessages(count, channel, msg.message.envelope().getDeliveryTag());
+            msg.acknowledgeMessages();
+        }
+    }
+}
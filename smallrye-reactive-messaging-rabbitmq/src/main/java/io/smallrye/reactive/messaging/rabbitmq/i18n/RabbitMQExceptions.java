@@ -41,4 +41,16 @@ public interface RabbitMQExceptions {
 
     @Message(id = 16009, value = "Unable to create a client, probably a config error")
     IllegalStateException illegalStateUnableToCreateClient(@Cause Throwable t);
+
+    @Message(id = 16010, value = "The message with delivery tag %d has been nacked by the broker")
+    IllegalStateException illegalStateMessageNackedByBroker(long deliveryTag);
+
+    @Message(id = 16011, value = "If specified, the value of max-inflight-bytes must be greater than 0")
+    IllegalArgumentException illegalArgumentInvalidMaxInflightBytes();
+
+    @Message(id = 16012, value = "The value of publisher-pool-size must be greater than 0")
+    IllegalArgumentException illegalArgumentInvalidPublisherPoolSize();
+
+    @Message(id = 16013, value = "Invalid publisher pool distribution: %s, accepted values are `round-robin` and `routing-key`")
+    IllegalArgumentException illegalArgumentInvalidPublisherPoolDistribution(String distribution);
 }
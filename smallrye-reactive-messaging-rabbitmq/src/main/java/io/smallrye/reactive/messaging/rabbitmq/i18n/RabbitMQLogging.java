@@ -131,4 +131,12 @@ public interface RabbitMQLogging extends BasicLogger {
     @Message(id = 17040, value = "Established dead letter binding of queue `%s` to exchange '%s' using routing key '%s'")
     void deadLetterBindingEstablished(String queueName, String exchangeName, String routingKey);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 17041, value = "%d messages sent to channel `%s` have been ack'd up to delivery tag %d")
+    void ackMessages(int count, String channel, long deliveryTag);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 17042, value = "Ignoring the settlement of delivery tag %d on channel `%s`, the message was delivered on a previous RabbitMQ channel")
+    void staleSettlementIgnored(long deliveryTag, String channel);
+
 }
@@ -29,6 +29,7 @@ import io.smallrye.reactive.messaging.rabbitmq.RabbitMQConnectorIncomingConfigur
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAck;
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAckHandler;
 import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAutoAck;
+import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQCoalescingAck;
 import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQFailureHandler;
 import io.smallrye.reactive.messaging.rabbitmq.tracing.RabbitMQOpenTelemetryInstrumenter;
 import io.smallrye.reactive.messaging.rabbitmq.tracing.RabbitMQTrace;
@@ -61,7 +62,7 @@ public class IncomingRabbitMQChannel {
         final RabbitMQFailureHandler onNack = createFailureHandler(connector.failureHandlerFactories(), ic);
         final RabbitMQAckHandler onAck = createAckHandler(ic);
 
-        Multi<? extends Message<?>> multi = createConsumer(connector, ic)
+        Multi<? extends Message<?>> multi = createConsumer(connector, ic, onAck)
                 .invoke(tuple -> client = tuple.getItem1().client())
                 // Translate all consumers into a merged stream of messages
                 .onItem().transformToMulti(tuple -> getStreamOfMessages(tuple.getItem2(), tuple.getItem1(), ic, onNack, onAck));
@@ -109,10 +110,20 @@ public class IncomingRabbitMQChannel {
     }
 
     private Uni<Tuple2<ClientHolder, RabbitMQConsumer>> createConsumer(RabbitMQConnector connector,
-            RabbitMQConnectorIncomingConfiguration ic) {
+            RabbitMQConnectorIncomingConfiguration ic, RabbitMQAckHandler onAck) {
         // Create a client
         final RabbitMQClient client = RabbitMQClientHelper.createClient(connector, ic);
+        Context root = null;
+        if (ConcurrencyConnectorConfig.getConcurrency(ic.config()).filter(i -> i > 1).isPresent()) {
+            root = Context.newInstance(((VertxInternal) connector.vertx().getDelegate()).createEventLoopContext());
+        }
+        final ClientHolder holder = new ClientHolder(client, ic, connector.vertx(), root);
         client.getDelegate().addConnectionEstablishedCallback(promise -> {
+            // Delivery tags are scoped to the channel, which is recreated with the connection
+            holder.channelOpened();
+            if (onAck instanceof RabbitMQCoalescingAck) {
+                ((RabbitMQCoalescingAck) onAck).reset();
+            }
 
             Uni<Void> uni;
             if (ic.getMaxOutstandingMessages().isPresent()) {
@@ -129,11 +140,6 @@ public class IncomingRabbitMQChannel {
                     .subscribe().with(ignored -> promise.complete(), promise::fail);
         });
 
-        Context root = null;
-        if (ConcurrencyConnectorConfig.getConcurrency(ic.config()).filter(i -> i > 1).isPresent()) {
-            root = Context.newInstance(((VertxInternal) connector.vertx().getDelegate()).createEventLoopContext());
-        }
-        final ClientHolder holder = new ClientHolder(client, ic, connector.vertx(), root);
         return holder.getOrEstablishConnection()
                 .invoke(() -> log.connectionEstablished(ic.getChannel()))
                 .flatMap(connection -> createConsumer(ic, connection).map(consumer -> Tuple2.of(holder, consumer)));
@@ -152,8 +158,14 @@ public class IncomingRabbitMQChannel {
     }
 
     public RabbitMQAckHandler createAckHandler(RabbitMQConnectorIncomingConfiguration ic) {
-        return (Boolean.TRUE.equals(ic.getAutoAcknowledgement())) ? new RabbitMQAutoAck(ic.getChannel())
-                : new RabbitMQAck(ic.getChannel());
+        if (Boolean.TRUE.equals(ic.getAutoAcknowledgement())) {
+            return new RabbitMQAutoAck(ic.getChannel());
+        }
+        int coalescingSize = ic.getAckCoalescingSize().orElse(1);
+        if (coalescingSize > 1) {
+            return new RabbitMQCoalescingAck(ic.getChannel(), coalescingSize, ic.getAckCoalescingInterval());
+        }
+        return new RabbitMQAck(ic.getChannel());
     }
 
     /**
@@ -1,10 +1,15 @@
 package io.smallrye.reactive.messaging.rabbitmq.internals;
 
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex;
 import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging.log;
-import static io.smallrye.reactive.messaging.rabbitmq.internals.RabbitMQClientHelper.declareExchangeIfNeeded;
 import static java.time.Duration.ofSeconds;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 
@@ -14,46 +19,73 @@ import io.smallrye.reactive.messaging.providers.helpers.MultiUtils;
 import io.smallrye.reactive.messaging.rabbitmq.ClientHolder;
 import io.smallrye.reactive.messaging.rabbitmq.RabbitMQConnector;
 import io.smallrye.reactive.messaging.rabbitmq.RabbitMQConnectorOutgoingConfiguration;
+import io.smallrye.reactive.messaging.rabbitmq.RabbitMQMessageConverter;
 import io.vertx.mutiny.rabbitmq.RabbitMQClient;
 import io.vertx.mutiny.rabbitmq.RabbitMQPublisher;
 import io.vertx.rabbitmq.RabbitMQPublisherOptions;
 
 public class OutgoingRabbitMQChannel {
 
+    static final String DISTRIBUTION_ROUND_ROBIN = "round-robin";
+    static final String DISTRIBUTION_ROUTING_KEY = "routing-key";
+
     private final Flow.Subscriber<Message<?>> subscriber;
     private final RabbitMQConnectorOutgoingConfiguration config;
-    private final ClientHolder holder;
-    private volatile RabbitMQPublisher publisher;
+    private final List<PooledPublisher> publishers;
 
     public OutgoingRabbitMQChannel(RabbitMQConnector connector, RabbitMQConnectorOutgoingConfiguration oc) {
 
         this.config = oc;
-        // Create a client
-        final RabbitMQClient client = RabbitMQClientHelper.createClient(connector, oc);
-        client.getDelegate().addConnectionEstablishedCallback(promise -> {
-            // Ensure we create the exchange to which messages are to be sent
-            RabbitMQClientHelper.declareExchangeIfNeeded(client, oc, connector.configMaps())
-                    .subscribe().with((ignored) -> promise.complete(), promise::fail);
-        });
-
-        holder = new ClientHolder(client, oc, connector.vertx(), null);
-        final Uni<RabbitMQPublisher> getSender = holder.getOrEstablishConnection()
-                .onItem()
-                .transformToUni(connection -> Uni.createFrom().item(RabbitMQPublisher.create(connector.vertx(), connection,
-                        new RabbitMQPublisherOptions()
-                                .setReconnectAttempts(oc.getReconnectAttempts())
-                                .setReconnectInterval(ofSeconds(oc.getReconnectInterval()).toMillis())
-                                .setMaxInternalQueueSize(oc.getMaxOutgoingInternalQueueSize().orElse(Integer.MAX_VALUE)))))
-                // Start the publisher
-                .onItem().call(RabbitMQPublisher::start)
-                .invoke(publisher -> this.publisher = publisher)
-                .onFailure().recoverWithNull().memoize().indefinitely();
-
-        // Set up a sender based on the publisher we established above
-        final RabbitMQMessageSender processor = new RabbitMQMessageSender(oc, getSender);
-
-        // Return a SubscriberBuilder
-        subscriber = MultiUtils.via(processor, m -> m.onFailure().invoke(t -> log.error(oc.getChannel(), t)));
+        int poolSize = oc.getPublisherPoolSize();
+        if (poolSize <= 0) {
+            throw ex.illegalArgumentInvalidPublisherPoolSize();
+        }
+        this.publishers = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            publishers.add(new PooledPublisher(connector, oc, i, poolSize));
+        }
+
+        if (poolSize == 1) {
+            // Return a SubscriberBuilder
+            subscriber = MultiUtils.via(publishers.get(0).sender,
+                    m -> m.onFailure().invoke(t -> log.error(oc.getChannel(), t)));
+        } else {
+            // Dispatch the messages to the pooled publishers, each one having its own connection
+            ToIntFunction<Message<?>> distribution = createDistribution(oc, poolSize);
+            subscriber = MultiUtils.via(multi -> multi
+                    .group().by(distribution::applyAsInt)
+                    .onItem().transformToMultiAndMerge(lane -> MultiUtils.via(lane, publishers.get(lane.key()).sender)
+                            .onItem().ignore())
+                    .onFailure().invoke(t -> log.error(oc.getChannel(), t)));
+        }
+    }
+
+    private static ToIntFunction<Message<?>> createDistribution(RabbitMQConnectorOutgoingConfiguration oc, int poolSize) {
+        String distribution = oc.getPublisherPoolDistribution();
+        if (DISTRIBUTION_ROUND_ROBIN.equalsIgnoreCase(distribution)) {
+            AtomicInteger next = new AtomicInteger();
+            return message -> Math.floorMod(next.getAndIncrement(), poolSize);
+        } else if (DISTRIBUTION_ROUTING_KEY.equalsIgnoreCase(distribution)) {
+            // Messages with the same routing key are sent by the same publisher, in order
+            String defaultRoutingKey = oc.getDefaultRoutingKey();
+            return message -> Math.floorMod(RabbitMQMessageConverter.getRoutingKey(message)
+                    .orElse(defaultRoutingKey).hashCode(), poolSize);
+        } else {
+            throw ex.illegalArgumentInvalidPublisherPoolDistribution(distribution);
+        }
+    }
+
+    private static RabbitMQConfirmTracker createConfirmTracker(RabbitMQClient client,
+            RabbitMQConnectorOutgoingConfiguration oc) {
+        if (!oc.getPublishConfirms() || !oc.getPublishConfirmsTracking()) {
+            return null;
+        }
+        Optional<Long> maxInflightBytes = oc.getMaxInflightBytes();
+        if (maxInflightBytes.isPresent() && maxInflightBytes.get() <= 0) {
+            throw ex.illegalArgumentInvalidMaxInflightBytes();
+        }
+        int maxQueueSize = (int) Math.min(oc.getMaxInflightMessages(), Integer.MAX_VALUE);
+        return new RabbitMQConfirmTracker(client, maxQueueSize, maxInflightBytes.orElse(Long.MAX_VALUE));
     }
 
     public Flow.Subscriber<Message<?>> getSubscriber() {
@@ -69,17 +101,10 @@ public class OutgoingRabbitMQChannel {
     }
 
     private HealthReport.HealthReportBuilder computeHealthReport(HealthReport.HealthReportBuilder builder) {
-        RabbitMQClient client = holder.client();
-        if (client == null) {
-            return builder.add(new HealthReport.ChannelInfo(config.getChannel(), false));
+        for (PooledPublisher publisher : publishers) {
+            builder = publisher.computeHealthReport(builder);
         }
-
-        boolean ok = true;
-        if (holder.hasBeenConnected()) {
-            ok = client.isConnected() && client.isOpenChannel();
-        }
-
-        return builder.add(new HealthReport.ChannelInfo(config.getChannel(), ok));
+        return builder;
     }
 
     public HealthReport.HealthReportBuilder isReady(HealthReport.HealthReportBuilder builder) {
@@ -91,8 +116,73 @@ public class OutgoingRabbitMQChannel {
     }
 
     public void terminate() {
-        if (publisher != null) {
-            publisher.stopAndAwait();
+        for (PooledPublisher publisher : publishers) {
+            publisher.terminate();
+        }
+    }
+
+    /**
+     * A publisher of the pool, with its own client, connection and AMQP channel.
+     */
+    private class PooledPublisher {
+
+        private final int index;
+        private final ClientHolder holder;
+        private final RabbitMQMessageSender sender;
+        private volatile RabbitMQPublisher publisher;
+
+        PooledPublisher(RabbitMQConnector connector, RabbitMQConnectorOutgoingConfiguration oc, int index, int poolSize) {
+            this.index = index;
+            // Create a client
+            final RabbitMQClient client = RabbitMQClientHelper.createClient(connector, oc, index, poolSize);
+            final RabbitMQConfirmTracker confirmTracker = createConfirmTracker(client, oc);
+            client.getDelegate().addConnectionEstablishedCallback(promise -> {
+                // Ensure we create the exchange to which messages are to be sent
+                Uni<?> uni = RabbitMQClientHelper.declareExchangeIfNeeded(client, oc, connector.configMaps());
+                if (confirmTracker != null) {
+                    // Confirms are enabled per channel, so on every connection
+                    uni = uni.call(confirmTracker::start);
+                }
+                uni.subscribe().with((ignored) -> promise.complete(), promise::fail);
+            });
+
+            holder = new ClientHolder(client, oc, connector.vertx(), null);
+            final Uni<RabbitMQPublisher> getSender = holder.getOrEstablishConnection()
+                    .onItem()
+                    .transformToUni(connection -> Uni.createFrom().item(RabbitMQPublisher.create(connector.vertx(), connection,
+                            new RabbitMQPublisherOptions()
+                                    .setReconnectAttempts(oc.getReconnectAttempts())
+                                    .setReconnectInterval(ofSeconds(oc.getReconnectInterval()).toMillis())
+                                    .setMaxInternalQueueSize(
+                                            oc.getMaxOutgoingInternalQueueSize().orElse(Integer.MAX_VALUE)))))
+                    // Start the publisher
+                    .onItem().call(RabbitMQPublisher::start)
+                    .invoke(publisher -> this.publisher = publisher)
+                    .onFailure().recoverWithNull().memoize().indefinitely();
+
+            // Set up a sender based on the publisher we established above
+            sender = new RabbitMQMessageSender(oc, getSender, confirmTracker);
+        }
+
+        HealthReport.HealthReportBuilder computeHealthReport(HealthReport.HealthReportBuilder builder) {
+            String message = publishers.size() > 1 ? "publisher #" + index : null;
+            RabbitMQClient client = holder.client();
+            if (client == null) {
+                return builder.add(new HealthReport.ChannelInfo(config.getChannel(), false, message));
+            }
+
+            boolean ok = true;
+            if (holder.hasBeenConnected()) {
+                ok = client.isConnected() && client.isOpenChannel();
+            }
+
+            return builder.add(new HealthReport.ChannelInfo(config.getChannel(), ok, message));
+        }
+
+        void terminate() {
+            if (publisher != null) {
+                publisher.stopAndAwait();
+            }
         }
     }
 }
@@ -42,20 +42,40 @@ public class RabbitMQClientHelper {
     }
 
     static RabbitMQClient createClient(RabbitMQConnector connector, RabbitMQConnectorCommonConfiguration config) {
+        return createClient(connector, config, 0, 1);
+    }
+
+    /**
+     * Creates a client member of a pool of clients. Each member uses its own connection, identified by its index.
+     * When the broker addresses are configured, they are rotated so the connections are spread across the cluster nodes.
+     *
+     * @param connector the connector
+     * @param config the channel configuration
+     * @param index the index of the client in the pool
+     * @param poolSize the size of the pool
+     * @return the client
+     */
+    static RabbitMQClient createClient(RabbitMQConnector connector, RabbitMQConnectorCommonConfiguration config,
+            int index, int poolSize) {
         Optional<String> clientOptionsName = config.getClientOptionsName();
         Vertx vertx = connector.vertx();
+        String clientName = poolSize > 1 ? config.getChannel() + "-" + index : config.getChannel();
         RabbitMQOptions options;
         try {
             if (clientOptionsName.isPresent()) {
                 options = getClientOptionsFromBean(connector.clientOptions(), clientOptionsName.get());
+                if (poolSize > 1) {
+                    // The bean is shared by the pool members
+                    options = new RabbitMQOptions(options);
+                }
             } else {
-                options = getClientOptions(vertx, config, connector.credentialsProviders());
+                options = getClientOptions(vertx, config, connector.credentialsProviders(), index, poolSize);
             }
             if (DEFAULT_METRICS_NAME.equals(options.getMetricsName())) {
-                options.setMetricsName("rabbitmq|" + config.getChannel());
+                options.setMetricsName("rabbitmq|" + clientName);
             }
             RabbitMQClient client = RabbitMQClient.create(vertx, options);
-            connector.registerClient(config.getChannel(), client);
+            connector.registerClient(clientName, client);
             return client;
         } catch (Exception e) {
             log.unableToCreateClient(e);
@@ -81,12 +101,22 @@ public class RabbitMQClientHelper {
 
     static RabbitMQOptions getClientOptions(Vertx vertx, RabbitMQConnectorCommonConfiguration config,
             Instance<CredentialsProvider> credentialsProviders) {
-        String connectionName = String.format("%s (%s)",
-                config.getChannel(),
-                config instanceof RabbitMQConnectorIncomingConfiguration ? "Incoming" : "Outgoing");
+        return getClientOptions(vertx, config, credentialsProviders, 0, 1);
+    }
+
+    static RabbitMQOptions getClientOptions(Vertx vertx, RabbitMQConnectorCommonConfiguration config,
+            Instance<CredentialsProvider> credentialsProviders, int index, int poolSize) {
+        String direction = config instanceof RabbitMQConnectorIncomingConfiguration ? "Incoming" : "Outgoing";
+        String connectionName = poolSize > 1
+                ? String.format("%s (%s #%d)", config.getChannel(), direction, index)
+                : String.format("%s (%s)", config.getChannel(), direction);
         List<Address> addresses = config.getAddresses()
                 .map(s -> Arrays.asList(Address.parseAddresses(s)))
                 .orElseGet(() -> Collections.singletonList(new Address(config.getHost(), config.getPort())));
+        if (index > 0 && addresses.size() > 1) {
+            addresses = new ArrayList<>(addresses);
+            Collections.rotate(addresses, -index);
+        }
         log.brokerConfigured(addresses.toString(), config.getChannel());
 
         RabbitMQOptions options = new RabbitMQOptions()
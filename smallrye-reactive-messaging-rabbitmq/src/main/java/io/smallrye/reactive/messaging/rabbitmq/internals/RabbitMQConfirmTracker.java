@@ -0,0 +1,161 @@
+package io.smallrye.reactive.messaging.rabbitmq.internals;
+
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.rabbitmq.client.BasicProperties;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+
+/**
+ * Tracks the publisher confirms of a RabbitMQ channel.
+ * <p>
+ * Messages are published directly on the channel, without waiting for the previous publications, and the sequence
+ * number assigned by the channel is recorded. Confirms received from the broker, including {@code multiple} ones, resolve
+ * all the covered publications at once. The number of bytes of the publications not confirmed yet is tracked, so the
+ * sender can stop requesting messages when it goes beyond the configured limit.
+ */
+public class RabbitMQConfirmTracker {
+
+    private final RabbitMQClient client;
+    private final int maxQueueSize;
+    private final long maxInflightBytes;
+
+    /**
+     * Publications not confirmed yet, by sequence number.
+     */
+    private final TreeMap<Long, Publication> pending = new TreeMap<>();
+    private long inflightBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param client the RabbitMQ client
+     * @param maxQueueSize the maximum number of confirms buffered by the client
+     * @param maxInflightBytes the maximum number of bytes of publications not confirmed yet
+     */
+    public RabbitMQConfirmTracker(RabbitMQClient client, int maxQueueSize, long maxInflightBytes) {
+        this.client = client;
+        this.maxQueueSize = maxQueueSize;
+        this.maxInflightBytes = maxInflightBytes;
+    }
+
+    /**
+     * Enables publisher confirms on the current channel and listens to them.
+     * Must be called every time the connection is established, publications of the previous channel are failed.
+     *
+     * @return a {@link Uni} completed when the confirms are enabled
+     */
+    public Uni<Void> start() {
+        failPending();
+        return client.addConfirmListener(maxQueueSize)
+                .invoke(confirms -> confirms.handler(this::handleConfirmation))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Publishes a message and waits for its confirm.
+     *
+     * @param exchange the exchange
+     * @param routingKey the routing key
+     * @param properties the message properties
+     * @param body the message body
+     * @return a {@link Uni} completed with the sequence number of the publication when confirmed by the broker
+     */
+    public Uni<Long> publish(String exchange, String routingKey, BasicProperties properties, Buffer body) {
+        return Uni.createFrom().emitter(emitter -> {
+            Publication publication = new Publication(emitter, body.length());
+            client.basicPublishWithDeliveryTag(exchange, routingKey, properties, body, tag -> register(tag, publication))
+                    .subscribe().with(ignored -> {
+                        // Completed on confirm
+                    }, failure -> {
+                        discard(publication);
+                        emitter.fail(failure);
+                    });
+        });
+    }
+
+    /**
+     * @return whether the publications not confirmed yet are below the configured number of bytes
+     */
+    public synchronized boolean hasCapacity() {
+        return inflightBytes < maxInflightBytes;
+    }
+
+    synchronized long inflightBytes() {
+        return inflightBytes;
+    }
+
+    synchronized int inflightMessages() {
+        return pending.size();
+    }
+
+    private synchronized void register(long tag, Publication publication) {
+        publication.tag = tag;
+        pending.put(tag, publication);
+        inflightBytes += publication.size;
+    }
+
+    private synchronized void discard(Publication publication) {
+        if (publication.tag >= 0 && pending.remove(publication.tag, publication)) {
+            inflightBytes -= publication.size;
+        }
+    }
+
+    void handleConfirmation(RabbitMQConfirmation confirmation) {
+        List<Publication> confirmed;
+        synchronized (this) {
+            long tag = confirmation.getDeliveryTag();
+            if (confirmation.isMultiple()) {
+                NavigableMap<Long, Publication> covered = pending.headMap(tag, true);
+                confirmed = new ArrayList<>(covered.values());
+                covered.clear();
+            } else {
+                Publication publication = pending.remove(tag);
+                confirmed = publication == null ? Collections.emptyList() : Collections.singletonList(publication);
+            }
+            for (Publication publication : confirmed) {
+                inflightBytes -= publication.size;
+            }
+        }
+        for (Publication publication : confirmed) {
+            if (confirmation.isSucceeded()) {
+                publication.emitter.complete(publication.tag);
+            } else {
+                publication.emitter.fail(ex.illegalStateMessageNackedByBroker(publication.tag));
+            }
+        }
+    }
+
+    private void failPending() {
+        List<Publication> failed;
+        synchronized (this) {
+            failed = new ArrayList<>(pending.values());
+            pending.clear();
+            inflightBytes = 0;
+        }
+        for (Publication publication : failed) {
+            publication.emitter.fail(ex.illegalStateConnectionDisconnected());
+        }
+    }
+
+    private static class Publication {
+        private final UniEmitter<? super Long> emitter;
+        private final int size;
+        private long tag = -1;
+
+        private Publication(UniEmitter<? super Long> emitter, int size) {
+            this.emitter = emitter;
+            this.size = size;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Processor;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -41,8 +42,11 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     private final long inflights;
     private final Optional<Long> defaultTtl;
     private final boolean publishConfirms;
+    private final RabbitMQConfirmTracker confirmTracker;
+    private final AtomicLong deferredRequests = new AtomicLong();
 
     private final RabbitMQOpenTelemetryInstrumenter instrumenter;
+    private final RabbitMQMessageConverter.PropertiesTemplate propertiesTemplate;
 
     /**
      * Constructor.
@@ -53,7 +57,23 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     public RabbitMQMessageSender(
             final RabbitMQConnectorOutgoingConfiguration oc,
             final Uni<RabbitMQPublisher> retrieveSender) {
+        this(oc, retrieveSender, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param oc the configuration parameters for outgoing messages
+     * @param retrieveSender the underlying Vert.x {@link RabbitMQPublisher}
+     * @param confirmTracker the tracker used to publish messages and wait for their confirms, {@code null} to publish
+     *        messages using the {@link RabbitMQPublisher}
+     */
+    public RabbitMQMessageSender(
+            final RabbitMQConnectorOutgoingConfiguration oc,
+            final Uni<RabbitMQPublisher> retrieveSender,
+            final RabbitMQConfirmTracker confirmTracker) {
         this.retrieveSender = retrieveSender;
+        this.confirmTracker = confirmTracker;
         this.configuration = oc;
         this.configuredExchange = getExchangeName(oc);
         this.isTracingEnabled = oc.getTracingEnabled();
@@ -71,8 +91,10 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
 
         if (oc.getTracingEnabled()) {
             instrumenter = RabbitMQOpenTelemetryInstrumenter.createForSender();
+            propertiesTemplate = null;
         } else {
             instrumenter = null;
+            propertiesTemplate = new RabbitMQMessageConverter.PropertiesTemplate(defaultTtl);
         }
     }
 
@@ -168,7 +190,7 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
                                 subscriber.onNext(tuple.getItem2());
 
                                 if (inflights != Long.MAX_VALUE) {
-                                    upstream.get().request(1);
+                                    requestNext();
                                 }
                             }
                         },
@@ -252,6 +274,15 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     /* HELPER METHODS */
     /* ----------------------------------------------------- */
 
+    private void requestNext() {
+        if (confirmTracker != null && !confirmTracker.hasCapacity()) {
+            // Too many unconfirmed bytes, the request is issued when the next message is confirmed
+            deferredRequests.incrementAndGet();
+            return;
+        }
+        upstream.get().request(1 + deferredRequests.getAndSet(0));
+    }
+
     private Uni<Message<?>> send(
             final RabbitMQPublisher publisher,
             final Message<?> msg,
@@ -262,11 +293,17 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
         final String defaultRoutingKey = configuration.getDefaultRoutingKey();
 
         final RabbitMQMessageConverter.OutgoingRabbitMQMessage outgoingRabbitMQMessage = RabbitMQMessageConverter
-                .convert(instrumenter, msg, exchange, defaultRoutingKey, defaultTtl, isTracingEnabled);
+                .convert(instrumenter, msg, exchange, defaultRoutingKey, defaultTtl, isTracingEnabled, propertiesTemplate);
 
         RabbitMQLogging.log.sendingMessageToExchange(exchange, outgoingRabbitMQMessage.getRoutingKey());
         Uni<Void> published;
-        if (publishConfirms) {
+        if (publishConfirms && confirmTracker != null) {
+            published = confirmTracker.publish(exchange, outgoingRabbitMQMessage.getRoutingKey(),
+                    outgoingRabbitMQMessage.getProperties(),
+                    outgoingRabbitMQMessage.getBody())
+                    .onItem().invoke(deliveryTag -> OutgoingMessageMetadata.setResultOnMessage(msg, deliveryTag))
+                    .replaceWithVoid();
+        } else if (publishConfirms) {
             published = publisher.publishConfirm(exchange, outgoingRabbitMQMessage.getRoutingKey(),
                     outgoingRabbitMQMessage.getProperties(),
                     outgoingRabbitMQMessage.getBody())
@@ -0,0 +1,161 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rabbitmq.client.AMQP.BasicProperties;
+import com.rabbitmq.client.Envelope;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQCoalescingAck;
+import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQFailureHandler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.rabbitmq.RabbitMQMessage;
+
+class RabbitMQCoalescingAckTest {
+
+    Vertx vertx;
+    Context context;
+    ClientHolder holder;
+    List<String> frames = new CopyOnWriteArrayList<>();
+    AtomicLong channelGeneration = new AtomicLong();
+
+    RabbitMQFailureHandler reject = new RabbitMQFailureHandler() {
+        @Override
+        public <V> CompletableFuture<Void> handle(IncomingRabbitMQMessage<V> message, Metadata metadata, Context context,
+                Throwable reason) {
+            frames.add("nack-" + message.message.envelope().getDeliveryTag());
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        holder = mock(ClientHolder.class);
+        when(holder.getContext()).thenReturn(context);
+        when(holder.getChannelGeneration()).thenAnswer(invocation -> channelGeneration.get());
+        when(holder.getAck(anyLong(), anyBoolean())).thenAnswer(invocation -> {
+            frames.add((invocation.getArgument(1, Boolean.class) ? "multiple-ack-" : "ack-")
+                    + invocation.getArgument(0, Long.class));
+            return Uni.createFrom().voidItem();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    IncomingRabbitMQMessage<String> message(long tag, RabbitMQCoalescingAck ack) {
+        io.vertx.rabbitmq.RabbitMQMessage mockMsg = mock(io.vertx.rabbitmq.RabbitMQMessage.class);
+        when(mockMsg.body()).thenReturn(Buffer.buffer("payload"));
+        when(mockMsg.properties()).thenReturn(new BasicProperties());
+        when(mockMsg.envelope()).thenReturn(new Envelope(tag, false, "test", "test"));
+        return new IncomingRabbitMQMessage<>(RabbitMQMessage.newInstance(mockMsg), holder, reject, ack, "text/plain");
+    }
+
+    @Test
+    void testContiguousAcksAreCoalesced() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 3, 60_000);
+        for (long tag = 1; tag <= 6; tag++) {
+            message(tag, ack).ack();
+        }
+
+        await().until(() -> frames.size() == 2);
+        assertThat(frames).containsExactly("multiple-ack-3", "multiple-ack-6");
+    }
+
+    @Test
+    void testOutOfOrderAcksWaitForContiguousPrefix() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 3, 60_000);
+        IncomingRabbitMQMessage<String> first = message(1, ack);
+        message(2, ack).ack();
+        message(3, ack).ack();
+        message(4, ack).ack();
+
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        assertThat(frames).isEmpty();
+
+        first.ack();
+        await().until(() -> frames.size() == 1);
+        assertThat(frames).containsExactly("multiple-ack-4");
+    }
+
+    @Test
+    void testPendingAcksAreFlushedAfterInterval() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 100, 50);
+        message(1, ack).ack();
+        message(2, ack).ack();
+
+        await().until(() -> frames.size() == 1);
+        assertThat(frames).containsExactly("multiple-ack-2");
+    }
+
+    @Test
+    void testNackFlushesPendingPrefix() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 3, 60_000);
+        message(1, ack).ack();
+        message(2, ack).ack();
+        message(3, ack).nack(new Exception("boom")).toCompletableFuture().join();
+        message(4, ack).ack();
+        message(5, ack).ack();
+        message(6, ack).ack();
+
+        await().until(() -> frames.size() == 3);
+        assertThat(frames).containsExactly("multiple-ack-2", "nack-3", "multiple-ack-6");
+    }
+
+    @Test
+    void testResetDiscardsTrackedTags() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 2, 60_000);
+        message(1, ack).ack();
+        message(3, ack).ack();
+        ack.reset();
+        message(1, ack).ack();
+        message(2, ack).ack();
+
+        await().until(() -> frames.size() == 1);
+        assertThat(frames).containsExactly("multiple-ack-2");
+    }
+
+    @Test
+    void testSettlementsFromPreviousChannelAreIgnored() {
+        RabbitMQCoalescingAck ack = new RabbitMQCoalescingAck("test", 2, 60_000);
+        IncomingRabbitMQMessage<String> staleAck = message(2, ack);
+        IncomingRabbitMQMessage<String> staleNack = message(3, ack);
+        message(1, ack).ack();
+
+        // The channel is re-opened, delivery tags restart from 1
+        channelGeneration.incrementAndGet();
+        ack.reset();
+        staleAck.ack();
+        staleNack.nack(new Exception("boom")).toCompletableFuture().join();
+        message(1, ack).ack();
+
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        assertThat(frames).isEmpty();
+
+        message(2, ack).ack();
+        await().until(() -> frames.size() == 1);
+        assertThat(frames).containsExactly("multiple-ack-2");
+    }
+}
@@ -0,0 +1,75 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.rabbitmq.RabbitMQMessageConverter.OutgoingRabbitMQMessage;
+import io.smallrye.reactive.messaging.rabbitmq.RabbitMQMessageConverter.PropertiesTemplate;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class RabbitMQMessageConverterTest {
+
+    OutgoingRabbitMQMessage convert(Message<?> message, Optional<Long> ttl, PropertiesTemplate template) {
+        return RabbitMQMessageConverter.convert(null, message, "exchange", "key", ttl, false, template);
+    }
+
+    @Test
+    void testTemplatePropertiesMatchComputedProperties() {
+        Optional<Long> ttl = Optional.of(1000L);
+        PropertiesTemplate template = new PropertiesTemplate(ttl);
+        for (Object payload : new Object[] { "hello", 42, new byte[] { 1, 2 }, new JsonObject().put("k", "v"),
+                Map.of("k", "v") }) {
+            Message<?> message = Message.of(payload);
+            OutgoingRabbitMQMessage expected = convert(message, ttl, null);
+            OutgoingRabbitMQMessage actual = convert(message, ttl, template);
+
+            assertThat(actual.getRoutingKey()).isEqualTo(expected.getRoutingKey());
+            assertThat(actual.getBody().getBytes()).isEqualTo(expected.getBody().getBytes());
+            assertThat(actual.getProperties().getContentType()).isEqualTo(expected.getProperties().getContentType());
+            assertThat(actual.getProperties().getExpiration()).isEqualTo("1000");
+            assertThat(actual.getProperties().getHeaders()).isEmpty();
+        }
+    }
+
+    @Test
+    void testTemplatePropertiesAreReused() {
+        PropertiesTemplate template = new PropertiesTemplate(Optional.empty());
+        OutgoingRabbitMQMessage first = convert(Message.of("a"), Optional.empty(), template);
+        OutgoingRabbitMQMessage second = convert(Message.of("b"), Optional.empty(), template);
+
+        assertThat(first.getProperties()).isSameAs(second.getProperties());
+        assertThat(first.getProperties().getExpiration()).isNull();
+    }
+
+    @Test
+    void testTemplateIsIgnoredWithOutgoingMetadata() {
+        PropertiesTemplate template = new PropertiesTemplate(Optional.empty());
+        OutgoingRabbitMQMetadata metadata = OutgoingRabbitMQMetadata.builder()
+                .withContentType("application/custom")
+                .withHeader("h", "v")
+                .build();
+        OutgoingRabbitMQMessage message = convert(Message.of("a").addMetadata(metadata), Optional.empty(), template);
+
+        assertThat(message.getProperties().getContentType()).isEqualTo("application/custom");
+        assertThat(message.getProperties().getHeaders()).containsEntry("h", "v");
+    }
+
+    @Test
+    void testJsonBodyEncoding() {
+        JsonObject object = new JsonObject().put("name", "value").put("count", 2);
+        JsonArray array = new JsonArray().add("a").add(1);
+
+        assertThat(convert(Message.of(object), Optional.empty(), null).getBody().toString())
+                .isEqualTo(object.encode());
+        assertThat(convert(Message.of(array), Optional.empty(), null).getBody().toString())
+                .isEqualTo(array.encode());
+        assertThat(convert(Message.of(Map.of("k", "v")), Optional.empty(), null).getBody().toString())
+                .isEqualTo("{\"k\":\"v\"}");
+    }
+}
@@ -468,6 +468,43 @@ class RabbitMQTest extends RabbitMQBrokerTestBase {
                 .containsAll(receivedTags);
     }
 
+    /**
+     * Verifies that messages can be sent to RabbitMQ through a pool of publishers.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    void testSendingMessagesToRabbitMQWithPublisherPool() throws InterruptedException {
+        final String routingKey = "normal";
+
+        CountDownLatch latch = new CountDownLatch(10);
+        usage.consumeIntegers(exchangeName, routingKey, v -> latch.countDown());
+
+        weld.addBeanClass(ProducingBean.class);
+
+        new MapBasedConfig()
+                .put("mp.messaging.outgoing.sink.exchange.name", exchangeName)
+                .put("mp.messaging.outgoing.sink.exchange.declare", false)
+                .put("mp.messaging.outgoing.sink.default-routing-key", routingKey)
+                .put("mp.messaging.outgoing.sink.publisher-pool-size", 3)
+                .put("mp.messaging.outgoing.sink.connector", RabbitMQConnector.CONNECTOR_NAME)
+                .put("mp.messaging.outgoing.sink.host", host)
+                .put("mp.messaging.outgoing.sink.port", port)
+                .put("mp.messaging.outgoing.sink.tracing.enabled", false)
+                .put("rabbitmq-username", username)
+                .put("rabbitmq-password", password)
+                .put("rabbitmq-reconnect-attempts", 0)
+                .write();
+
+        container = weld.initialize();
+        await().until(() -> isRabbitMQConnectorAvailable(container));
+
+        assertThat(latch.await(3, TimeUnit.MINUTES)).isTrue();
+        RabbitMQConnector connector = get(container, RabbitMQConnector.class,
+                ConnectorLiteral.of(RabbitMQConnector.CONNECTOR_NAME));
+        assertThat(connector.getLiveness().getChannels()).hasSize(3);
+    }
+
     @ApplicationScoped
     static class DeliveryTagInterceptor implements OutgoingInterceptor {
 
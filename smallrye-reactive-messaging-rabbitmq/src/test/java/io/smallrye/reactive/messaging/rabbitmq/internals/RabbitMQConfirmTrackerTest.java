@@ -0,0 +1,109 @@
+package io.smallrye.reactive.messaging.rabbitmq.internals;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rabbitmq.client.AMQP;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+
+class RabbitMQConfirmTrackerTest {
+
+    RabbitMQClient client;
+    AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        client = mock(RabbitMQClient.class);
+        when(client.basicPublishWithDeliveryTag(anyString(), anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(4, Consumer.class).accept(sequence.incrementAndGet());
+                    return Uni.createFrom().voidItem();
+                });
+    }
+
+    UniAssertSubscriber<Long> publish(RabbitMQConfirmTracker tracker, String payload) {
+        return tracker.publish("exchange", "key", new AMQP.BasicProperties(), Buffer.buffer(payload))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    @Test
+    void testMultipleConfirmResolvesCoveredPublications() {
+        RabbitMQConfirmTracker tracker = new RabbitMQConfirmTracker(client, 100, Long.MAX_VALUE);
+        UniAssertSubscriber<Long> first = publish(tracker, "a");
+        UniAssertSubscriber<Long> second = publish(tracker, "b");
+        UniAssertSubscriber<Long> third = publish(tracker, "c");
+        assertThat(tracker.inflightMessages()).isEqualTo(3);
+
+        tracker.handleConfirmation(new RabbitMQConfirmation(1, 2, true, true));
+        first.assertItem(1L);
+        second.assertItem(2L);
+        third.assertNotTerminated();
+        assertThat(tracker.inflightMessages()).isEqualTo(1);
+
+        tracker.handleConfirmation(new RabbitMQConfirmation(1, 3, false, true));
+        third.assertItem(3L);
+        assertThat(tracker.inflightMessages()).isZero();
+        assertThat(tracker.inflightBytes()).isZero();
+    }
+
+    @Test
+    void testSingleConfirmOutOfOrder() {
+        RabbitMQConfirmTracker tracker = new RabbitMQConfirmTracker(client, 100, Long.MAX_VALUE);
+        UniAssertSubscriber<Long> first = publish(tracker, "a");
+        UniAssertSubscriber<Long> second = publish(tracker, "b");
+
+        tracker.handleConfirmation(new RabbitMQConfirmation(1, 2, false, true));
+        first.assertNotTerminated();
+        second.assertItem(2L);
+    }
+
+    @Test
+    void testNackFailsCoveredPublications() {
+        RabbitMQConfirmTracker tracker = new RabbitMQConfirmTracker(client, 100, Long.MAX_VALUE);
+        UniAssertSubscriber<Long> first = publish(tracker, "a");
+        UniAssertSubscriber<Long> second = publish(tracker, "b");
+
+        tracker.handleConfirmation(new RabbitMQConfirmation(1, 2, true, false));
+        first.assertFailedWith(IllegalStateException.class, "delivery tag 1");
+        second.assertFailedWith(IllegalStateException.class, "delivery tag 2");
+    }
+
+    @Test
+    void testInflightBytesAreBounded() {
+        RabbitMQConfirmTracker tracker = new RabbitMQConfirmTracker(client, 100, 10);
+        publish(tracker, "12345");
+        assertThat(tracker.hasCapacity()).isTrue();
+        publish(tracker, "67890");
+        assertThat(tracker.inflightBytes()).isEqualTo(10);
+        assertThat(tracker.hasCapacity()).isFalse();
+
+        tracker.handleConfirmation(new RabbitMQConfirmation(1, 1, false, true));
+        assertThat(tracker.hasCapacity()).isTrue();
+    }
+
+    @Test
+    void testRestartFailsPendingPublications() {
+        when(client.addConfirmListener(100)).thenReturn(Uni.createFrom().nothing());
+        RabbitMQConfirmTracker tracker = new RabbitMQConfirmTracker(client, 100, Long.MAX_VALUE);
+        UniAssertSubscriber<Long> first = publish(tracker, "a");
+
+        tracker.start();
+        first.assertFailedWith(IllegalStateException.class);
+        assertThat(tracker.inflightMessages()).isZero();
+    }
+}